@@ -9,6 +9,9 @@ import java.lang.annotation.Target;
 /**
  * 日期/时间格式校验注解
  * 使用位置：类的字段
+ * 支持的字段类型：
+ * - String：按 pattern 校验格式，并校验范围
+ * - LocalDate、LocalDateTime、Instant：值本身已是日期时间，只校验范围，不再格式化后重新解析
  *
  * @Author：zhangbaosheng
  * @Package：annotations
@@ -50,6 +53,14 @@ public @interface DateTime {
      */
     String max() default "";
 
+    /**
+     * Instant 类型字段比较范围时使用的时区
+     * 默认值为"UTC"，min/max 按该时区的本地日期时间理解
+     *
+     * @return 时区ID，例如"Asia/Shanghai"
+     */
+    String zone() default "UTC";
+
     /**
      * 校验失败时的错误信息
      * 默认值为"日期/时间格式错误或超出范围"
@@ -7,6 +7,7 @@ import java.lang.annotation.Target;
 
 /**
  * 邮箱格式校验注解
+ * 配置 blocklist 时在格式校验通过后检查域名是否在黑名单中（一次性邮箱、被封禁的域名等）
  * 使用位置：类的字段
  *
  * @Author：zhangbaosheng
@@ -27,4 +28,12 @@ public @interface Email {
      * @return 错误信息
      */
     String message() default "邮箱格式不正确";
+
+    /**
+     * 邮箱域名黑名单文件的路径，文件由 utils.EmailDomainBlocklistBuilder 生成
+     * 默认值为""，表示不检查黑名单；名单中的域名同时屏蔽其所有子域名。
+     * 相对路径按工作目录解析，文件在构建校验计划时映射到内存，无法加载时抛出异常
+     * @return 黑名单文件路径
+     */
+    String blocklist() default "";
 }
@@ -27,10 +27,44 @@ public @interface EnumValue {
      */
     Class<? extends Enum<?>> enumClass();
 
+    /**
+     * 字段值与枚举常量的匹配方式
+     * 默认值为 NAME；无论哪种方式，字段值本身就是该枚举类的常量时都直接通过
+     * @return 匹配方式
+     */
+    Match match() default Match.NAME;
+
+    /**
+     * 按编码匹配时，枚举上返回编码的无参方法名称或字段名称
+     * 默认值为"getCode"
+     * @return 编码访问方法或字段名称
+     */
+    String codeAccessor() default "getCode";
+
     /**
      * 校验失败时的错误信息
      * 默认值为"值不在枚举定义范围内"
      * @return 错误信息
      */
     String message() default "值不在枚举定义范围内";
+
+    /**
+     * 字段值与枚举常量的匹配方式
+     */
+    enum Match {
+        /**
+         * 字段值的 toString() 与常量名称相同
+         */
+        NAME,
+
+        /**
+         * 字段值为整数，且是某个常量的序号（ordinal）
+         */
+        ORDINAL,
+
+        /**
+         * 字段值与某个常量的编码（codeAccessor 指定的方法或字段的返回值）相同，整数编码按数值比较
+         */
+        CODE
+    }
 }
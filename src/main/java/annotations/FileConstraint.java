@@ -34,6 +34,14 @@ public @interface FileConstraint {
      */
     String[] allowedTypes() default {};
 
+    /**
+     * 是否按文件头（魔数）识别文件的实际类型
+     * 默认值为false，使用客户端提供的MIME类型；为true时识别出的类型必须在允许的类型中，无法识别的内容校验失败。
+     * 支持 PNG、JPEG、GIF、WebP、BMP、TIFF、PDF、ZIP（含 docx/xlsx 等 OOXML 与 ODF 文档）、旧版 Office 文档、GZIP、7z、RAR、MP4 等常见类型
+     * @return 是否识别文件内容
+     */
+    boolean detectContentType() default false;
+
     /**
      * 校验失败时的错误信息
      * 默认值为"文件不符合上传要求"
@@ -7,6 +7,7 @@ import java.lang.annotation.Target;
 
 /**
  * 中国身份证号格式校验注解
+ * strict 为 true 时同时检查地址码、出生日期和校验码
  * 使用位置：类的字段
  * @Author：zhangbaosheng
  * @Package：annotations
@@ -24,4 +25,11 @@ public @interface IdCard {
      * @return 错误信息
      */
     String message() default "身份证号码格式不正确";
+
+    /**
+     * 是否按 GB 11643 严格校验：检查地址码、出生日期和18位号码的校验码
+     * 默认只检查号码格式；地址码表见 {@link utils.IdCardRegions}
+     * @return 是否严格校验
+     */
+    boolean strict() default false;
 }
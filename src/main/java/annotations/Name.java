@@ -7,6 +7,7 @@ import java.lang.annotation.Target;
 
 /**
  * 姓名长度校验注解
+ * 长度按码点计算，生僻字和表情符号等补充平面字符计为1
  * 使用位置：类的字段
  *
  * @Author：zhangbaosheng
@@ -59,6 +59,20 @@ public @interface Password {
      */
     int maxLength() default 64;
 
+    /**
+     * 视为特殊字符的字符集合
+     * 默认值为"!@#$%^&*(),.?\":{}|<>"；大写字母、小写字母和数字即使出现在集合中也按原类别计算
+     * @return 特殊字符集合
+     */
+    String specialChars() default "!@#$%^&*(),.?\":{}|<>";
+
+    /**
+     * 已泄露密码黑名单文件的路径，文件由 utils.PasswordBlocklistBuilder 生成
+     * 默认值为""，表示不检查黑名单；相对路径按工作目录解析。文件在构建校验计划时映射到内存，无法加载时抛出异常
+     * @return 黑名单文件路径
+     */
+    String blocklist() default "";
+
     /**
      * 校验失败时的错误信息
      * 默认值为"密码复杂度不符合要求"
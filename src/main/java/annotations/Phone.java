@@ -1,5 +1,7 @@
 package annotations;
 
+import utils.PhoneCarrier;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -7,6 +9,7 @@ import java.lang.annotation.Target;
 
 /**
  * 手机号码格式校验注解
+ * strict 为 true 或指定了 carriers 时按号段检查号码是否已分配以及所属运营商
  * 使用位置：类的字段
  *
  * @Author：zhangbaosheng
@@ -25,4 +28,18 @@ public @interface Phone {
      * @return 错误信息
      */
     String message() default "手机号格式不正确";
+
+    /**
+     * 是否拒绝未分配号段中的号码
+     * 号段数据见 {@link utils.PhoneSegments}
+     * @return 是否检查号段
+     */
+    boolean strict() default false;
+
+    /**
+     * 允许的运营商，非空时同时检查号段（即使 strict 为 false）
+     * 默认不限制运营商
+     * @return 允许的运营商
+     */
+    PhoneCarrier[] carriers() default {};
 }
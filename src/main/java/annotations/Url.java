@@ -8,6 +8,7 @@ import java.lang.annotation.Target;
 
 /**
  * URL格式校验注解
+ * 可以限制协议，并按主机名黑白名单校验（用于防范 SSRF 等场景），规则在构建校验计划时编译为 {@link utils.UrlConstraint}
  * 使用位置：类的字段
  *
  * @Author：zhangbaosheng
@@ -26,4 +27,25 @@ public @interface Url {
      * @return 错误信息
      */
     String message() default "URL格式不正确";
+
+    /**
+     * 允许的协议，URL 中的协议名称必须为小写
+     * 默认值为空数组，表示允许 http、https 和 ftp
+     * @return 允许的协议数组
+     */
+    String[] allowedSchemes() default {};
+
+    /**
+     * 允许的主机名，例如 example.com（同时匹配所有子域名）、*.example.com（只匹配子域名）
+     * 默认值为空数组，表示不限制主机名
+     * @return 允许的主机名规则数组
+     */
+    String[] allowedHosts() default {};
+
+    /**
+     * 禁止的主机名，格式同 allowedHosts，优先于 allowedHosts
+     * 默认值为空数组
+     * @return 禁止的主机名规则数组
+     */
+    String[] deniedHosts() default {};
 }
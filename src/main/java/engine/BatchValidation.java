@@ -0,0 +1,252 @@
+package engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 批量校验的并行执行逻辑
+ * 将待校验元素按下标切分为若干段，分派到 ForkJoin 线程池或调用方提供的 Executor 并行校验，
+ * 每个元素的结果写入对应下标，因此返回的结果列表与输入顺序一一对应
+ * 元素数量不超过阈值时直接在调用线程顺序执行，避免小批量数据承担任务拆分和线程切换的开销
+ * 各工作线程共享 ValidatorEngine 按类缓存的校验器，缓存基于 ClassValue，读取时无需加锁
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：BatchValidation
+ * @Date：2026/10/18 16:30
+ * @Filename：BatchValidation
+ */
+final class BatchValidation {
+
+    /**
+     * 顺序执行阈值，同时也是每个并行任务处理的最少元素数
+     * 单个对象的校验耗时在微秒级，数百个元素的耗时才足以抵消任务拆分和调度的开销
+     */
+    static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private BatchValidation() {
+    }
+
+    /**
+     * 使用 ForkJoin 公共线程池校验数组中的所有元素
+     *
+     * @param targets 待校验元素
+     * @return 与输入下标一一对应的校验结果
+     */
+    static List<ValidationResult> validateAll(Object[] targets) {
+        ValidationResult[] results = new ValidationResult[targets.length];
+        if (targets.length <= SEQUENTIAL_THRESHOLD || !parallel()) {
+            validateRange(targets, 0, targets.length, results);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RangeTask(targets, 0, targets.length, results));
+        }
+        return wrap(results);
+    }
+
+    /**
+     * 使用调用方提供的 Executor 校验数组中的所有元素
+     * 元素按下标均分为若干段，每段作为一个任务提交，调用线程等待所有任务完成
+     *
+     * @param targets  待校验元素
+     * @param executor 执行校验任务的线程池
+     * @return 与输入下标一一对应的校验结果
+     */
+    static List<ValidationResult> validateAll(Object[] targets, Executor executor) {
+        ValidationResult[] results = new ValidationResult[targets.length];
+        if (targets.length <= SEQUENTIAL_THRESHOLD) {
+            validateRange(targets, 0, targets.length, results);
+            return wrap(results);
+        }
+        // 分段数不超过 CPU 核数的4倍，保证各线程负载均衡的同时避免过多的小任务
+        int chunks = Math.min(targets.length / SEQUENTIAL_THRESHOLD, Runtime.getRuntime().availableProcessors() * 4);
+        int chunkSize = (targets.length + chunks - 1) / chunks;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int from = i * chunkSize;
+            int to = Math.min(from + chunkSize, targets.length);
+            futures[i] = CompletableFuture.runAsync(() -> validateRange(targets, from, to, results), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+        return wrap(results);
+    }
+
+    /**
+     * 使用 ForkJoin 公共线程池校验 Spliterator 中的所有元素
+     * 能够精确拆分（SUBSIZED）的 Spliterator 直接按拆分结果并行校验，不复制元素；
+     * 否则先将元素收集到列表中再按下标切分
+     *
+     * @param source 待校验元素
+     * @return 与遍历顺序一一对应的校验结果
+     */
+    static List<ValidationResult> validateAll(Spliterator<?> source) {
+        if (!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return validateAll(drain(source));
+        }
+        long size = source.getExactSizeIfKnown();
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("元素数量超出上限: " + size);
+        }
+        ValidationResult[] results = new ValidationResult[(int) size];
+        if (size <= SEQUENTIAL_THRESHOLD || !parallel()) {
+            validateRemaining(source, 0, results);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SpliteratorTask(source, 0, results));
+        }
+        return wrap(results);
+    }
+
+    /**
+     * 公共线程池只有一个工作线程（单核环境）时拆分任务没有收益，直接顺序执行
+     */
+    private static boolean parallel() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * 将 Spliterator 中的剩余元素收集到数组中
+     *
+     * @param source 元素来源
+     * @return 元素数组
+     */
+    static Object[] drain(Spliterator<?> source) {
+        List<Object> buffer = new ArrayList<>();
+        source.forEachRemaining(buffer::add);
+        return buffer.toArray();
+    }
+
+    /**
+     * 顺序校验 [from, to) 范围内的元素
+     * 批量数据通常是同一类型，相邻元素类型相同时直接复用上一次取得的校验器，省去 ClassValue 查找
+     */
+    private static void validateRange(Object[] targets, int from, int to, ValidationResult[] results) {
+        Class<?> lastType = null;
+        GeneratedValidator validator = null;
+        for (int i = from; i < to; i++) {
+            Object target = targets[i];
+            Class<?> type = target.getClass();
+            if (type != lastType) {
+                validator = ValidatorEngine.validatorFor(type);
+                lastType = type;
+            }
+            results[i] = check(validator, target);
+        }
+    }
+
+    /**
+     * 顺序校验 Spliterator 中的剩余元素，结果从 base 下标开始依次写入
+     */
+    private static void validateRemaining(Spliterator<?> source, int base, ValidationResult[] results) {
+        int[] index = {base};
+        Class<?>[] lastType = {null};
+        GeneratedValidator[] validator = {null};
+        source.forEachRemaining(target -> {
+            Class<?> type = target.getClass();
+            if (type != lastType[0]) {
+                validator[0] = ValidatorEngine.validatorFor(type);
+                lastType[0] = type;
+            }
+            results[index[0]++] = check(validator[0], target);
+        });
+    }
+
+    private static ValidationResult check(GeneratedValidator validator, Object target) {
+        List<String> errors = new ArrayList<>();
+        validator.validate(target, errors);
+        return ValidationResult.of(errors);
+    }
+
+    private static List<ValidationResult> wrap(ValidationResult[] results) {
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+    /**
+     * 按下标二分拆分的 ForkJoin 任务
+     */
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] targets;
+        private final int from;
+        private final int to;
+        private final ValidationResult[] results;
+
+        RangeTask(Object[] targets, int from, int to, ValidationResult[] results) {
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                validateRange(targets, from, to, results);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(targets, from, middle, results), new RangeTask(targets, middle, to, results));
+        }
+    }
+
+    /**
+     * 按 Spliterator.trySplit 拆分的 ForkJoin 任务
+     * trySplit 返回的是前半部分元素，因此拆出的任务从当前起始下标开始，剩余部分的起始下标相应后移
+     */
+    private static final class SpliteratorTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<?> source;
+        private final int base;
+        private final ValidationResult[] results;
+
+        SpliteratorTask(Spliterator<?> source, int base, ValidationResult[] results) {
+            this.source = source;
+            this.base = base;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            Spliterator<?> rest = source;
+            int offset = base;
+            List<SpliteratorTask> forked = new ArrayList<>();
+            Spliterator<?> prefix;
+            while (rest.estimateSize() > SEQUENTIAL_THRESHOLD && (prefix = rest.trySplit()) != null) {
+                // 必须在 fork 之前取得拆分出的元素数量，fork 之后该 Spliterator 可能已被其他线程遍历
+                int prefixSize = (int) prefix.getExactSizeIfKnown();
+                SpliteratorTask task = new SpliteratorTask(prefix, offset, results);
+                task.fork();
+                forked.add(task);
+                offset += prefixSize;
+            }
+            validateRemaining(rest, offset, results);
+            for (SpliteratorTask task : forked) {
+                task.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package engine;
+
+import exceptions.ValidationException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 字节码生成模式的校验引擎
+ * 与 {@link ValidatorEngine} 提供相同的校验语义，区别在于首次校验某个类型时会为其生成专用的校验类，
+ * 之后直接执行生成的直线式代码，省去逐条解释校验计划的开销。适用于调用极其频繁的少数热点 DTO
+ *
+ * <p>当前环境无法生成校验类时（例如类加载受限），自动回退为按校验计划校验</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：BytecodeValidatorEngine
+ * @Date：2026/10/18 13:40
+ * @Filename：BytecodeValidatorEngine
+ */
+public class BytecodeValidatorEngine {
+
+    /**
+     * 按类缓存的生成校验器
+     */
+    private static final ClassValue<GeneratedValidator> VALIDATORS = new ClassValue<GeneratedValidator>() {
+        @Override
+        protected GeneratedValidator computeValue(Class<?> type) {
+            ValidationPlan plan = ValidationPlan.of(type);
+            GeneratedValidator generated = ValidatorClassGenerator.generate(type, plan);
+            return generated != null ? generated : plan::validate;
+        }
+    };
+
+    /**
+     * 对目标对象进行校验
+     * 首次校验某个类型时生成该类型的专用校验类，之后直接调用
+     *
+     * @param target 需要校验的对象
+     * @throws ValidationException 当校验失败时抛出，包含所有校验错误信息
+     */
+    public static void validate(Object target) {
+        // 存储所有校验错误信息
+        List<String> errors = new ArrayList<>();
+
+        VALIDATORS.get(target.getClass()).validate(target, errors);
+
+        // 如果存在校验错误，则抛出异常
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 最小化的 class 文件写入器
+ * 只支持生成校验类和字段读取器所需的常量池条目、字段、方法、Code 及 StackMapTable 属性，
+ * 生成的 class 文件版本为 52（Java 8）
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ClassFileWriter
+ * @Date：2026/10/18 13:10
+ * @Filename：ClassFileWriter
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    static final int ALOAD_0 = 0x2a;
+    static final int ALOAD_1 = 0x2b;
+    static final int ALOAD_2 = 0x2c;
+    static final int ALOAD_3 = 0x2d;
+    static final int ASTORE_3 = 0x4e;
+    static final int AALOAD = 0x32;
+    static final int POP = 0x57;
+    static final int IFNE = 0x9a;
+    static final int IRETURN = 0xac;
+    static final int LRETURN = 0xad;
+    static final int DRETURN = 0xaf;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int CHECKCAST = 0xc0;
+
+    /**
+     * 常量池内容，索引从1开始
+     */
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOut = new DataOutputStream(pool);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private final String className;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+    private final String[] interfaces;
+
+    /**
+     * @param className  类的内部名称，例如 com/example/Foo$$Validator
+     * @param interfaces 实现的接口内部名称
+     */
+    ClassFileWriter(String className, String... interfaces) {
+        this.className = className;
+        this.interfaces = interfaces;
+    }
+
+    String className() {
+        return className;
+    }
+
+    // ---------------------------------------------------------------- 常量池
+
+    int utf8(String value) {
+        return constant("U" + value, 1, out -> out.writeUTF(value), 1);
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return constant("C" + internalName, 7, out -> out.writeShort(name), 1);
+    }
+
+    int string(String value) {
+        int utf8 = utf8(value);
+        return constant("S" + value, 8, out -> out.writeShort(utf8), 1);
+    }
+
+    int integer(int value) {
+        return constant("I" + value, 3, out -> out.writeInt(value), 1);
+    }
+
+    int longValue(long value) {
+        return constant("J" + value, 5, out -> out.writeLong(value), 2);
+    }
+
+    int doubleValue(double value) {
+        return constant("D" + Double.doubleToRawLongBits(value), 6, out -> out.writeDouble(value), 2);
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerIndex = classRef(owner);
+        int nameIndex = utf8(name);
+        int descIndex = utf8(descriptor);
+        int nameAndType = constant("N" + name + ' ' + descriptor, 12, out -> {
+            out.writeShort(nameIndex);
+            out.writeShort(descIndex);
+        }, 1);
+        return constant(tag + owner + '.' + name + ' ' + descriptor, tag, out -> {
+            out.writeShort(ownerIndex);
+            out.writeShort(nameAndType);
+        }, 1);
+    }
+
+    private int constant(String key, int tag, PoolBody body, int slots) {
+        Integer index = poolIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(tag);
+            body.write(poolOut);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        index = poolCount;
+        poolCount += slots;
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    private interface PoolBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // ---------------------------------------------------------------- 字段与方法
+
+    void field(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    void method(int access, String name, String descriptor, Code code) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            code.writeTo(this, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        methods.add(bytes.toByteArray());
+    }
+
+    byte[] toByteArray() {
+        int thisClass = classRef(className);
+        int superClass = classRef("java/lang/Object");
+        int[] interfaceIndexes = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaceIndexes[i] = classRef(interfaces[i]);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(52);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaceIndexes.length);
+            for (int index : interfaceIndexes) {
+                out.writeShort(index);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 方法体字节码
+     * 分支目标处统一使用"局部变量与初始帧相同或只追加一个局部变量、操作数栈为空"的栈帧，
+     * 足以描述生成的直线式校验代码
+     */
+    static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final List<Integer> frameOffsets = new ArrayList<>();
+        private int maxStack;
+        private int maxLocals;
+
+        /**
+         * 追加的局部变量类型（内部名称），为null表示分支目标处的局部变量与方法初始帧相同
+         */
+        private String appendedLocal;
+
+        Code(int maxStack, int maxLocals) {
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        void appendedLocal(String internalName) {
+            this.appendedLocal = internalName;
+        }
+
+        void op(int opcode) {
+            bytes.write(opcode);
+        }
+
+        void op(int opcode, int u2) {
+            bytes.write(opcode);
+            u2(u2);
+        }
+
+        void invokeInterface(int methodRef, int argSlots) {
+            bytes.write(INVOKEINTERFACE);
+            u2(methodRef);
+            bytes.write(argSlots + 1);
+            bytes.write(0);
+        }
+
+        void loadConstant(ClassFileWriter cf, Object value) {
+            if (value instanceof Boolean) {
+                pushInt((Boolean) value ? 1 : 0, cf);
+            } else if (value instanceof Integer) {
+                pushInt((Integer) value, cf);
+            } else if (value instanceof Long) {
+                op(0x14, cf.longValue((Long) value));
+            } else if (value instanceof Double) {
+                op(0x14, cf.doubleValue((Double) value));
+            } else if (value instanceof String) {
+                ldc(cf.string((String) value));
+            } else {
+                throw new IllegalArgumentException("不支持的常量类型: " + value);
+            }
+        }
+
+        void pushInt(int value, ClassFileWriter cf) {
+            if (value >= -1 && value <= 5) {
+                bytes.write(0x03 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                bytes.write(0x10);
+                bytes.write(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                bytes.write(0x11);
+                u2(value);
+            } else {
+                ldc(cf.integer(value));
+            }
+        }
+
+        private void ldc(int index) {
+            if (index < 256) {
+                bytes.write(0x12);
+                bytes.write(index);
+            } else {
+                op(0x13, index);
+            }
+        }
+
+        /**
+         * 写入条件跳转指令，返回待回填的偏移位置
+         *
+         * @param opcode 跳转指令
+         * @return 跳转指令所在位置
+         */
+        int jump(int opcode) {
+            int at = bytes.size();
+            bytes.write(opcode);
+            u2(0);
+            return at;
+        }
+
+        /**
+         * 将跳转目标设置为当前位置，并在此处记录栈帧
+         *
+         * @param jumpAt 跳转指令所在位置
+         */
+        void land(int jumpAt) {
+            int target = bytes.size();
+            byte[] code = bytes.toByteArray();
+            int offset = target - jumpAt;
+            code[jumpAt + 1] = (byte) (offset >> 8);
+            code[jumpAt + 2] = (byte) offset;
+            bytes.reset();
+            bytes.write(code, 0, code.length);
+            if (frameOffsets.isEmpty() || frameOffsets.get(frameOffsets.size() - 1) != target) {
+                frameOffsets.add(target);
+            }
+        }
+
+        private void u2(int value) {
+            bytes.write(value >> 8);
+            bytes.write(value);
+        }
+
+        void writeTo(ClassFileWriter cf, DataOutputStream out) throws IOException {
+            byte[] code = bytes.toByteArray();
+            byte[] frames = frames(cf);
+            int attributes = frames == null ? 0 : 1;
+            int length = 2 + 2 + 4 + code.length + 2 + 2 + (frames == null ? 0 : 6 + frames.length);
+            out.writeShort(cf.utf8("Code"));
+            out.writeInt(length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);
+            out.writeShort(attributes);
+            if (frames != null) {
+                out.writeShort(cf.utf8("StackMapTable"));
+                out.writeInt(frames.length);
+                out.write(frames);
+            }
+        }
+
+        private byte[] frames(ClassFileWriter cf) throws IOException {
+            if (frameOffsets.isEmpty()) {
+                return null;
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(frameOffsets.size());
+            int previous = -1;
+            for (int i = 0; i < frameOffsets.size(); i++) {
+                int offset = frameOffsets.get(i);
+                int delta = offset - previous - 1;
+                if (i == 0 && appendedLocal != null) {
+                    // append_frame：追加一个对象类型的局部变量
+                    out.writeByte(252);
+                    out.writeShort(delta);
+                    out.writeByte(7);
+                    out.writeShort(cf.classRef(appendedLocal));
+                } else {
+                    // same_frame_extended
+                    out.writeByte(251);
+                    out.writeShort(delta);
+                }
+                previous = offset;
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package engine;
+
+import annotations.*;
+import validators.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 约束校验器注册表
+ * 以注解类型为键保存校验器工厂，校验计划只为字段上实际存在的注解查找校验器。
+ * 注册顺序：内置校验器、ServiceLoader 发现的校验器、通过 {@link #register(Class, Supplier)} 注册的校验器，
+ * 后注册的同类型校验器会覆盖先注册的
+ *
+ * <p>ServiceLoader 发现校验器时出错（类不存在、无法实例化、无法解析注解类型）只跳过出错的实现类，
+ * 问题以警告日志输出并可通过 {@link #getDiscoveryErrors()} 查询，不影响其他校验器；
+ * 多个实现类对应同一注解时，只有使用该注解的类在构建校验计划时失败</p>
+ *
+ * <p>注意：校验计划按类缓存，注册应在相关类型首次校验之前完成</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ConstraintRegistry
+ * @Date：2026/10/18 10:48
+ * @Filename：ConstraintRegistry
+ */
+public final class ConstraintRegistry {
+
+    /**
+     * 注解类型到校验器工厂的映射
+     */
+    private static final Map<Class<? extends Annotation>, Supplier<? extends ConstraintValidator<?, ?>>> FACTORIES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 注册过内置校验器以外的校验器的注解类型全名（包括覆盖内置注解的校验器）
+     */
+    private static final Set<String> CUSTOMIZED = ConcurrentHashMap.newKeySet();
+
+    private static final Logger LOGGER = Logger.getLogger(ConstraintRegistry.class.getName());
+
+    /**
+     * ServiceLoader 发现校验器时遇到的问题
+     */
+    private static final List<ServiceConfigurationError> DISCOVERY_ERRORS = new ArrayList<>();
+
+    static {
+        // 内置校验器
+        FACTORIES.put(Email.class, EmailValidator::new);
+        FACTORIES.put(Phone.class, PhoneValidator::new);
+        FACTORIES.put(IdCard.class, IdCardValidator::new);
+        FACTORIES.put(Price.class, PriceValidator::new);
+        FACTORIES.put(Quantity.class, QuantityValidator::new);
+        FACTORIES.put(PostalCode.class, PostalCodeValidator::new);
+        FACTORIES.put(Name.class, NameValidator::new);
+        FACTORIES.put(Address.class, AddressValidator::new);
+        FACTORIES.put(Decimal.class, DecimalValidator::new);
+        FACTORIES.put(DateTime.class, DateTimeValidator::new);
+        FACTORIES.put(Url.class, UrlValidator::new);
+        FACTORIES.put(FileConstraint.class, FileConstraintValidator::new);
+        FACTORIES.put(Password.class, PasswordValidator::new);
+        FACTORIES.put(EnumValue.class, EnumValueValidator::new);
+
+        discover();
+    }
+
+    private ConstraintRegistry() {
+    }
+
+    /**
+     * 注册校验器
+     *
+     * @param annotationType 校验注解类型
+     * @param factory        校验器工厂，每个字段调用一次
+     * @param <A>            校验注解类型
+     */
+    public static <A extends Annotation> void register(Class<A> annotationType,
+                                                       Supplier<? extends ConstraintValidator<A, ?>> factory) {
+        if (annotationType == null || factory == null) {
+            throw new IllegalArgumentException("注解类型和校验器工厂不能为空");
+        }
+        FACTORIES.put(annotationType, factory);
+        CUSTOMIZED.add(annotationType.getName());
+    }
+
+    /**
+     * 给定的注解类型中是否有注册了自定义校验器的
+     * 编译期生成的校验类只包含内置注解的校验逻辑，所依据的注解存在自定义校验器时不能使用
+     *
+     * @param annotationTypes 注解类型全名，为null表示未知，此时注册过任何自定义校验器都返回true
+     * @return 是否存在自定义校验器
+     */
+    static boolean isCustomized(String[] annotationTypes) {
+        if (annotationTypes == null) {
+            return !CUSTOMIZED.isEmpty();
+        }
+        for (String annotationType : annotationTypes) {
+            if (CUSTOMIZED.contains(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ServiceLoader 发现校验器时遇到的问题，出错的实现类已被跳过
+     *
+     * @return 不可修改的问题列表，没有问题时为空
+     */
+    public static List<ServiceConfigurationError> getDiscoveryErrors() {
+        return Collections.unmodifiableList(DISCOVERY_ERRORS);
+    }
+
+    /**
+     * 查找注解类型对应的校验器并创建新实例
+     *
+     * @param annotationType 校验注解类型
+     * @return 新的校验器实例，未注册时返回null
+     */
+    @SuppressWarnings("unchecked")
+    static ConstraintValidator<Annotation, Object> create(Class<? extends Annotation> annotationType) {
+        Supplier<? extends ConstraintValidator<?, ?>> factory = FACTORIES.get(annotationType);
+        return factory == null ? null : (ConstraintValidator<Annotation, Object>) factory.get();
+    }
+
+    /**
+     * 登记通过 ServiceLoader 发现的扩展校验器
+     * 单个实现类出错时记录问题后继续处理其他实现类，类初始化不会因为第三方 jar 中的错误配置而失败
+     */
+    @SuppressWarnings("rawtypes")
+    private static void discover() {
+        // 注解类型 -> 发现的实现类，用于检查冲突
+        Map<Class<? extends Annotation>, Class<?>> discovered = new HashMap<>();
+        Iterator<ConstraintValidator> providers = ServiceLoader.load(ConstraintValidator.class).iterator();
+        while (true) {
+            ConstraintValidator<?, ?> validator;
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                validator = providers.next();
+            } catch (ServiceConfigurationError e) {
+                // 迭代器会尽量继续定位下一个实现类
+                reportDiscoveryError(e);
+                continue;
+            } catch (LinkageError e) {
+                // 实现类的静态初始化失败或依赖的类不存在时不会被包装为 ServiceConfigurationError
+                reportDiscoveryError(new ServiceConfigurationError("无法加载校验器: " + e, e));
+                continue;
+            }
+            registerDiscovered(validator, discovered);
+        }
+    }
+
+    /**
+     * 登记 ServiceLoader 发现的校验器，注解类型从实现类的泛型参数中解析
+     *
+     * @param validator  ServiceLoader 创建的校验器实例
+     * @param discovered 已发现的注解类型及其实现类
+     */
+    @SuppressWarnings("unchecked")
+    private static void registerDiscovered(ConstraintValidator<?, ?> validator,
+                                           Map<Class<? extends Annotation>, Class<?>> discovered) {
+        Class<? extends ConstraintValidator<?, ?>> type =
+                (Class<? extends ConstraintValidator<?, ?>>) validator.getClass();
+        Class<? extends Annotation> annotationType = resolveAnnotationType(type);
+        if (annotationType == null) {
+            reportDiscoveryError(new ServiceConfigurationError("无法解析校验器的注解类型: " + type.getName()));
+            return;
+        }
+        CUSTOMIZED.add(annotationType.getName());
+        Class<?> previous = discovered.put(annotationType, type);
+        if (previous != null) {
+            // 无法确定应使用哪个实现类，只让使用该注解的校验计划失败
+            String message = "多个扩展校验器对应注解 " + annotationType.getName() + ": "
+                    + previous.getName() + ", " + type.getName();
+            reportDiscoveryError(new ServiceConfigurationError(message));
+            FACTORIES.put(annotationType, () -> {
+                throw new IllegalStateException(message);
+            });
+            return;
+        }
+        FACTORIES.put(annotationType, () -> {
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("无法创建校验器: " + type.getName(), e);
+            }
+        });
+    }
+
+    private static void reportDiscoveryError(ServiceConfigurationError error) {
+        DISCOVERY_ERRORS.add(error);
+        LOGGER.log(Level.WARNING, "扩展校验器配置有误: " + error.getMessage(), error);
+    }
+
+    /**
+     * 沿继承链查找 ConstraintValidator 的第一个泛型参数
+     *
+     * @param type 校验器实现类
+     * @return 注解类型，无法解析时返回null
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> resolveAnnotationType(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Type itf : c.getGenericInterfaces()) {
+                if (itf instanceof ParameterizedType
+                        && ((ParameterizedType) itf).getRawType() == ConstraintValidator.class) {
+                    Type arg = ((ParameterizedType) itf).getActualTypeArguments()[0];
+                    return arg instanceof Class ? (Class<? extends Annotation>) arg : null;
+                }
+            }
+        }
+        return null;
+    }
+}
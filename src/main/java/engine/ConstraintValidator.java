@@ -0,0 +1,108 @@
+package engine;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * 约束校验器扩展接口
+ * 每个校验注解对应一个校验器实现，由 {@link ConstraintRegistry} 按注解类型登记。
+ * 校验计划构建时为每个带注解的字段创建一个校验器实例并调用 {@link #initialize(Annotation)}，
+ * 因此实现类可以在初始化时提取并缓存注解属性，校验时不再读取注解
+ *
+ * <p>自定义校验器可以通过 {@link ConstraintRegistry#register(Class, java.util.function.Supplier)} 注册，
+ * 也可以在 META-INF/services/engine.ConstraintValidator 中声明，由 ServiceLoader 自动发现。
+ * 通过 ServiceLoader 发现的实现类需要提供公共无参构造函数</p>
+ *
+ * <p>int、long、double 类型的字段通过 {@link #isValidInt}、{@link #isValidLong}、{@link #isValidDouble} 校验，
+ * 默认实现将值装箱后交给 {@link #isValid(Object)}；支持基本类型的校验器可以覆盖这些方法以避免装箱</p>
+ *
+ * @param <A> 校验注解类型
+ * @param <T> 字段值类型
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ConstraintValidator
+ * @Date：2026/10/18 10:45
+ * @Filename：ConstraintValidator
+ */
+public interface ConstraintValidator<A extends Annotation, T> {
+
+    /**
+     * 常数时间的检查，例如数值范围、长度
+     */
+    int COST_CHEAP = 1;
+
+    /**
+     * 对字段值做一次线性扫描的检查，例如格式校验
+     */
+    int COST_SCAN = 3;
+
+    /**
+     * 默认开销
+     */
+    int COST_DEFAULT = 5;
+
+    /**
+     * 需要解析、分配对象或读取外部数据的检查，例如自定义格式的日期解析、读取输入流或磁盘文件
+     */
+    int COST_EXPENSIVE = 10;
+
+    /**
+     * 初始化校验器，每个字段只调用一次
+     *
+     * @param annotation 字段上的校验注解
+     */
+    default void initialize(A annotation) {
+    }
+
+    /**
+     * 校验字段值
+     *
+     * @param value 字段值，可能为null
+     * @return 是否校验通过
+     */
+    boolean isValid(T value);
+
+    /**
+     * 校验 int 类型的字段值
+     *
+     * @param value 字段值
+     * @return 是否校验通过
+     */
+    @SuppressWarnings("unchecked")
+    default boolean isValidInt(int value) {
+        return ((ConstraintValidator<A, Object>) this).isValid(value);
+    }
+
+    /**
+     * 校验 long 类型的字段值
+     *
+     * @param value 字段值
+     * @return 是否校验通过
+     */
+    @SuppressWarnings("unchecked")
+    default boolean isValidLong(long value) {
+        return ((ConstraintValidator<A, Object>) this).isValid(value);
+    }
+
+    /**
+     * 校验 double 类型的字段值
+     *
+     * @param value 字段值
+     * @return 是否校验通过
+     */
+    @SuppressWarnings("unchecked")
+    default boolean isValidDouble(double value) {
+        return ((ConstraintValidator<A, Object>) this).isValid(value);
+    }
+
+    /**
+     * 校验的相对开销，数值越小越便宜
+     * 快速失败模式（{@link ValidatorEngine#isValid(Object)}）按开销从小到大执行校验，
+     * 便宜的检查（空值、长度、数值范围）先执行，尽早拒绝非法对象
+     *
+     * @return 相对开销，默认为 {@link #COST_DEFAULT}
+     */
+    default int cost() {
+        return COST_DEFAULT;
+    }
+}
@@ -0,0 +1,54 @@
+package engine;
+
+/**
+ * 字段读取器
+ * 校验计划构建时为每个带校验注解的字段创建一次，校验时直接调用，不再经过 {@link java.lang.reflect.Field#get}
+ * 运行时生成的校验类在无法直接读取私有字段时也通过该接口读取字段值，因此声明为public
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：FieldAccessor
+ * @Date：2026/10/18 11:30
+ * @Filename：FieldAccessor
+ */
+public interface FieldAccessor {
+
+    /**
+     * 读取字段值
+     *
+     * @param target 字段所属对象
+     * @return 字段值，基本类型会被装箱
+     */
+    Object get(Object target);
+
+    /**
+     * 读取 int 类型的字段值，基本类型字段的读取器会覆盖该方法以避免装箱
+     *
+     * @param target 字段所属对象
+     * @return 字段值
+     */
+    default int getInt(Object target) {
+        return (Integer) get(target);
+    }
+
+    /**
+     * 读取 long 类型的字段值，基本类型字段的读取器会覆盖该方法以避免装箱
+     *
+     * @param target 字段所属对象
+     * @return 字段值
+     */
+    default long getLong(Object target) {
+        return (Long) get(target);
+    }
+
+    /**
+     * 读取 double 类型的字段值，基本类型字段的读取器会覆盖该方法以避免装箱
+     *
+     * @param target 字段所属对象
+     * @return 字段值
+     */
+    default double getDouble(Object target) {
+        return (Double) get(target);
+    }
+}
@@ -0,0 +1,191 @@
+package engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 字段读取器工厂
+ * 根据运行时 JDK 版本选择读取方式：
+ * <ul>
+ *     <li>JDK 15 及以上：为每个字段生成一个被读取类的嵌套成员（NESTMATE）隐藏类，
+ *     读取方法中直接用 getfield/getstatic 读取字段，不经过方法句柄或反射，JIT 可以把读取内联到调用处</li>
+ *     <li>更早的 JDK：使用 {@link Field#get}。保存在实例字段中的方法句柄不是常量，JIT 无法内联其调用，
+ *     实测不比反射快，因此不再使用</li>
+ * </ul>
+ * 隐藏类无法定义时（例如模块未开放该包）回退到反射读取
+ * int、long、double 类型的字段覆盖 getInt/getLong/getDouble 或使用 Field.getInt/getLong/getDouble，读取时不装箱
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：FieldAccessors
+ * @Date：2026/10/18 11:32
+ * @Filename：FieldAccessors
+ */
+final class FieldAccessors {
+
+    private static final String FIELD_ACCESSOR = "engine/FieldAccessor";
+    private static final String READ_DESC = "(Ljava/lang/Object;)";
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * 为字段创建读取器
+     *
+     * @param field 字段
+     * @return 字段读取器，字段无法读取时返回null
+     */
+    static FieldAccessor of(Field field) {
+        if (ValidatorClassGenerator.supportsNestmates()) {
+            try {
+                return defineHidden(field);
+            } catch (Throwable e) {
+                // 无法定义隐藏类，回退到反射读取
+            }
+        }
+        return reflective(field);
+    }
+
+    /**
+     * 以被读取类的嵌套成员隐藏类的方式定义字段读取器
+     */
+    private static FieldAccessor defineHidden(Field field) throws Throwable {
+        Class<?> host = field.getDeclaringClass();
+        byte[] bytes = emit(host.getName().replace('.', '/') + "$$Accessor", field);
+        MethodHandles.Lookup hidden = ValidatorClassGenerator.defineNestmate(host, bytes);
+        return (FieldAccessor) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                .invoke();
+    }
+
+    /**
+     * 生成字段读取器的字节码：get 方法读取字段并为基本类型装箱，
+     * int、long、double 字段另外覆盖对应的基本类型读取方法
+     *
+     * @param className 生成类的内部名称
+     * @param field     字段
+     * @return class 文件字节
+     */
+    private static byte[] emit(String className, Field field) {
+        ClassFileWriter cf = new ClassFileWriter(className, FIELD_ACCESSOR);
+        ClassFileWriter.Code init = new ClassFileWriter.Code(1, 1);
+        init.op(ClassFileWriter.ALOAD_0);
+        init.op(ClassFileWriter.INVOKESPECIAL, cf.methodRef("java/lang/Object", "<init>", "()V"));
+        init.op(ClassFileWriter.RETURN);
+        cf.method(ClassFileWriter.ACC_PUBLIC, "<init>", "()V", init);
+
+        Class<?> type = field.getType();
+        String descriptor = ValidatorClassGenerator.descriptor(type);
+        ClassFileWriter.Code get = new ClassFileWriter.Code(2, 2);
+        loadField(cf, get, field, descriptor);
+        if (type.isPrimitive()) {
+            String box = ValidatorClassGenerator.descriptor(ValidatorClassGenerator.box(type));
+            get.op(ClassFileWriter.INVOKESTATIC,
+                    cf.methodRef(box.substring(1, box.length() - 1), "valueOf", "(" + descriptor + ")" + box));
+        }
+        get.op(ClassFileWriter.ARETURN);
+        cf.method(ClassFileWriter.ACC_PUBLIC, "get", READ_DESC + "Ljava/lang/Object;", get);
+
+        if (type == int.class) {
+            emitRead(cf, field, "getInt", descriptor, ClassFileWriter.IRETURN);
+        } else if (type == long.class) {
+            emitRead(cf, field, "getLong", descriptor, ClassFileWriter.LRETURN);
+        } else if (type == double.class) {
+            emitRead(cf, field, "getDouble", descriptor, ClassFileWriter.DRETURN);
+        }
+        return cf.toByteArray();
+    }
+
+    /**
+     * 生成不装箱的基本类型读取方法
+     */
+    private static void emitRead(ClassFileWriter cf, Field field, String name, String descriptor, int returnOp) {
+        ClassFileWriter.Code code = new ClassFileWriter.Code(2, 2);
+        loadField(cf, code, field, descriptor);
+        code.op(returnOp);
+        cf.method(ClassFileWriter.ACC_PUBLIC, name, READ_DESC + descriptor, code);
+    }
+
+    /**
+     * 将字段值压入操作数栈，静态字段忽略目标对象
+     */
+    private static void loadField(ClassFileWriter cf, ClassFileWriter.Code code, Field field, String descriptor) {
+        String owner = field.getDeclaringClass().getName().replace('.', '/');
+        if (Modifier.isStatic(field.getModifiers())) {
+            code.op(ClassFileWriter.GETSTATIC, cf.fieldRef(owner, field.getName(), descriptor));
+        } else {
+            code.op(ClassFileWriter.ALOAD_1);
+            code.op(ClassFileWriter.CHECKCAST, cf.classRef(owner));
+            code.op(ClassFileWriter.GETFIELD, cf.fieldRef(owner, field.getName(), descriptor));
+        }
+    }
+
+    /**
+     * 创建基于反射的字段读取器
+     *
+     * @param field 字段
+     * @return 字段读取器，字段无法访问时返回null
+     */
+    private static FieldAccessor reflective(Field field) {
+        try {
+            // 设置字段可访问，以便获取私有字段的值
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            // 模块或安全管理器拒绝访问时，只有公共类的公共字段仍可读取
+            if (!Modifier.isPublic(field.getModifiers())
+                    || !Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+                return null;
+            }
+        }
+        return new ReflectiveAccessor(field);
+    }
+
+    /**
+     * 基于反射的字段读取器
+     */
+    static final class ReflectiveAccessor implements FieldAccessor {
+        private final Field field;
+
+        ReflectiveAccessor(Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object get(Object target) {
+            try {
+                return field.get(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法读取字段: " + field, e);
+            }
+        }
+
+        @Override
+        public int getInt(Object target) {
+            try {
+                return field.getInt(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法读取字段: " + field, e);
+            }
+        }
+
+        @Override
+        public long getLong(Object target) {
+            try {
+                return field.getLong(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法读取字段: " + field, e);
+            }
+        }
+
+        @Override
+        public double getDouble(Object target) {
+            try {
+                return field.getDouble(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("无法读取字段: " + field, e);
+            }
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package engine;
+
+import utils.LimitedInputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  *
  * 文件数据封装类
  * 用于存储文件的二进制内容和媒体类型信息
+ * 文件内容可以是内存中的字节数组、ByteBuffer（堆缓冲区或直接缓冲区）、磁盘文件路径或输入流，
+ * 校验时按内容来源检查大小（见 {@link utils.FieldValidator#isValidFile(Object, long, String[], String)}），
+ * 不会把磁盘文件或输入流的内容读入堆内存；输入流的大小上限在读取内容时检查
  * @Author：zhangbaosheng
  * @Package：engine
  * @Project：validation-lib
@@ -12,9 +26,9 @@ package engine;
  */
 public class FileData {
     /**
-     * 文件的二进制内容
+     * 文件内容来源：byte[]、ByteBuffer、Path 或 InputStream
      */
-    private final byte[] content;
+    private final Object source;
 
     /**
      * 文件的MIME类型（媒体类型）
@@ -28,16 +42,80 @@ public class FileData {
      * @param mimeType 文件的MIME类型
      */
     public FileData(byte[] content, String mimeType) {
-        this.content = content;
+        this.source = content;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * 构造函数，文件内容为缓冲区 position 到 limit 之间的字节
+     * 校验时不修改缓冲区的位置，调用方在校验完成前不应修改缓冲区
+     *
+     * @param content 文件内容
+     * @param mimeType 文件的MIME类型
+     */
+    public FileData(ByteBuffer content, String mimeType) {
+        this.source = content;
         this.mimeType = mimeType;
     }
 
+    /**
+     * 构造函数，文件内容为磁盘文件，校验时只读取文件大小
+     *
+     * @param content 文件路径
+     * @param mimeType 文件的MIME类型
+     */
+    public FileData(Path content, String mimeType) {
+        this.source = content;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * 构造函数，文件内容为输入流，例如上传请求的请求体
+     * 输入流被包装为 {@link LimitedInputStream}，校验时不读取内容（开启内容识别时只预读文件头），
+     * 只设置大小上限；之后通过 {@link #getSource()} 或 {@link #getContent()} 读取内容时，超过上限会抛出异常
+     *
+     * @param content 文件内容
+     * @param mimeType 文件的MIME类型
+     */
+    public FileData(InputStream content, String mimeType) {
+        this.source = content == null || content instanceof LimitedInputStream
+                ? content : new LimitedInputStream(content);
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * 获取文件内容来源，不复制内容
+     *
+     * @return 构造时传入的 byte[]、ByteBuffer、Path，或包装了输入流的 {@link LimitedInputStream}
+     */
+    public Object getSource() { return source; }
+
     /**
      * 获取文件的二进制内容
+     * 内容来源不是字节数组时，会把整个文件读入一个新的字节数组（输入流会被读到末尾），大文件应直接使用 {@link #getSource()}
      *
      * @return 文件内容的字节数组
+     * @throws UncheckedIOException 读取磁盘文件或输入流失败，或输入流超过校验设置的大小上限
      */
-    public byte[] getContent() { return content; }
+    public byte[] getContent() {
+        if (source instanceof ByteBuffer) {
+            ByteBuffer buffer = ((ByteBuffer) source).duplicate();
+            byte[] content = new byte[buffer.remaining()];
+            buffer.get(content);
+            return content;
+        }
+        try {
+            if (source instanceof Path) {
+                return Files.readAllBytes((Path) source);
+            }
+            if (source instanceof InputStream) {
+                return readAll((InputStream) source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return (byte[]) source;
+    }
 
     /**
      * 获取文件的MIME类型
@@ -45,4 +123,14 @@ public class FileData {
      * @return 文件的MIME类型字符串
      */
     public String getMimeType() { return mimeType; }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
 }
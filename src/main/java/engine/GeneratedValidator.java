@@ -0,0 +1,41 @@
+package engine;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * 为单个类型专门生成的校验器
+ * 实现类有两种来源：{@link BytecodeValidatorEngine} 在运行时生成的字节码，
+ * 以及注解处理器（validation-processor）在编译期生成的 XxxValidator 源码。
+ * 实现类中按字段顺序直接读取字段并调用 {@link utils.FieldValidator}，注解属性以常量形式写入代码
+ *
+ * <p>编译期生成的实现类必须是public的，并提供公共无参构造函数；
+ * 其中任一字段注解注册了自定义校验器时（见 {@link #annotationTypes()}），ValidatorEngine 不使用该实现类而改用反射校验</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：GeneratedValidator
+ * @Date：2026/10/18 13:05
+ * @Filename：GeneratedValidator
+ */
+public interface GeneratedValidator {
+
+    /**
+     * 校验目标对象，并将错误信息追加到列表中
+     *
+     * @param target 需要校验的对象
+     * @param errors 错误信息列表
+     */
+    void validate(Object target, List<String> errors);
+
+    /**
+     * 生成类所依据的字段注解类型，即被校验类的字段上所有运行时可见注解的全名（{@link Class#getName()} 形式），
+     * 包括生成类没有处理的非内置注解。以名称而非 {@link Annotation} 类型给出，运行时缺少其中的注解类时不会导致加载失败
+     *
+     * @return 注解类型全名，为null表示未知：注册过任何自定义校验器时都不使用该生成类
+     */
+    default String[] annotationTypes() {
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package engine;
+
+/**
+ * 流式校验中的单个元素及其校验结果
+ *
+ * @param <T> 元素类型
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：Validated
+ * @Date：2026/10/18 17:05
+ * @Filename：Validated
+ */
+public final class Validated<T> {
+
+    private final T element;
+    private final ValidationResult result;
+
+    Validated(T element, ValidationResult result) {
+        this.element = element;
+        this.result = result;
+    }
+
+    /**
+     * @return 被校验的元素
+     */
+    public T getElement() {
+        return element;
+    }
+
+    /**
+     * @return 该元素的校验结果
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * @return 该元素所有校验都通过时返回true
+     */
+    public boolean isValid() {
+        return result.isValid();
+    }
+
+    @Override
+    public String toString() {
+        return element + " -> " + result;
+    }
+}
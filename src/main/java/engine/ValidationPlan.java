@@ -0,0 +1,226 @@
+package engine;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 校验计划
+ * 每个类只在首次校验时扫描一次字段和注解，为字段上实际存在的注解创建校验器后生成不可变的条目数组，
+ * 之后的校验只需顺序遍历该数组，不再重复反射扫描
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ValidationPlan
+ * @Date：2026/10/18 10:20
+ * @Filename：ValidationPlan
+ */
+final class ValidationPlan {
+
+    /**
+     * 按类缓存的校验计划，类被卸载时缓存随之释放
+     */
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<ValidationPlan>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    /**
+     * 校验条目，按字段声明顺序及字段上注解的声明顺序排列
+     */
+    private final Entry[] entries;
+
+    /**
+     * 快速失败模式使用的校验条目，按校验开销从小到大排列，开销相同时保持原顺序
+     */
+    private final Entry[] cheapestFirst;
+
+    private ValidationPlan(Entry[] entries) {
+        this.entries = entries;
+        this.cheapestFirst = entries.clone();
+        Arrays.sort(cheapestFirst, Comparator.comparingInt(entry -> entry.cost));
+    }
+
+    /**
+     * 获取指定类的校验计划
+     *
+     * @param type 被校验对象的类型
+     * @return 已缓存的校验计划
+     */
+    static ValidationPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * 获取校验条目，供字节码生成使用，调用方不得修改
+     *
+     * @return 校验条目数组
+     */
+    Entry[] entries() {
+        return entries;
+    }
+
+    /**
+     * 按计划校验目标对象，并将错误信息追加到列表中
+     *
+     * @param target 需要校验的对象
+     * @param errors 错误信息列表
+     */
+    void validate(Object target, List<String> errors) {
+        for (Entry entry : entries) {
+            if (!entry.test(target)) {
+                errors.add(entry.message);
+            }
+        }
+    }
+
+    /**
+     * 按开销从小到大校验目标对象，遇到第一个校验失败即返回
+     *
+     * @param target 需要校验的对象
+     * @return 第一个校验失败的错误信息，全部通过时返回null
+     */
+    String firstViolation(Object target) {
+        for (Entry entry : cheapestFirst) {
+            if (!entry.test(target)) {
+                return entry.message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 扫描类的所有声明字段，为每个已注册的校验注解生成一个校验条目
+     *
+     * @param type 被校验对象的类型
+     * @return 校验计划
+     */
+    private static ValidationPlan build(Class<?> type) {
+        List<Entry> entries = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            collect(field, entries);
+        }
+        return new ValidationPlan(entries.toArray(new Entry[0]));
+    }
+
+    /**
+     * 为字段上实际存在的每个校验注解创建并初始化对应的校验器，未注册的注解直接忽略
+     * 同一字段的所有条目共享一个字段读取器，字段无法读取时跳过该字段的校验
+     *
+     * @param field   字段
+     * @param entries 条目列表
+     */
+    private static void collect(Field field, List<Entry> entries) {
+        FieldAccessor accessor = null;
+        for (Annotation annotation : field.getDeclaredAnnotations()) {
+            ConstraintValidator<Annotation, Object> validator =
+                    ConstraintRegistry.create(annotation.annotationType());
+            if (validator == null) {
+                continue;
+            }
+            if (accessor == null) {
+                accessor = FieldAccessors.of(field);
+                if (accessor == null) {
+                    return;
+                }
+            }
+            // 初始化时提取注解属性，校验时不再读取注解
+            validator.initialize(annotation);
+            entries.add(new Entry(field, annotation, accessor, validator, messageOf(annotation)));
+        }
+    }
+
+    /**
+     * 读取注解的 message 属性作为校验失败时的错误信息
+     *
+     * @param annotation 校验注解
+     * @return 错误信息，注解未声明 message 属性时使用注解名称生成默认信息
+     */
+    private static String messageOf(Annotation annotation) {
+        try {
+            Method message = annotation.annotationType().getMethod("message");
+            if (message.getReturnType() == String.class) {
+                // 注解类型可能不是public的，需要设置可访问
+                message.setAccessible(true);
+                return (String) message.invoke(annotation);
+            }
+        } catch (ReflectiveOperationException ignored) {
+            // 未声明 message 属性，使用默认信息
+        }
+        return "@" + annotation.annotationType().getSimpleName() + " 校验失败";
+    }
+
+    /**
+     * 校验条目：字段、注解、字段读取器、已初始化的校验器及校验失败时的错误信息
+     * int、long、double 类型的字段按基本类型读取并调用校验器的基本类型校验方法，整个过程不装箱
+     */
+    static final class Entry {
+        static final int KIND_OBJECT = 0;
+        static final int KIND_INT = 1;
+        static final int KIND_LONG = 2;
+        static final int KIND_DOUBLE = 3;
+
+        final Field field;
+        final Annotation annotation;
+        final FieldAccessor accessor;
+        final ConstraintValidator<?, Object> validator;
+        final String message;
+        final int cost;
+
+        /**
+         * 字段值的读取方式，见 KIND_* 常量
+         */
+        final int kind;
+
+        Entry(Field field, Annotation annotation, FieldAccessor accessor,
+              ConstraintValidator<?, Object> validator, String message) {
+            this.field = field;
+            this.annotation = annotation;
+            this.accessor = accessor;
+            this.validator = validator;
+            this.message = message;
+            this.cost = validator.cost();
+            this.kind = kindOf(field.getType());
+        }
+
+        /**
+         * 读取字段值并校验
+         *
+         * @param target 需要校验的对象
+         * @return 是否校验通过
+         */
+        boolean test(Object target) {
+            switch (kind) {
+                case KIND_INT:
+                    return validator.isValidInt(accessor.getInt(target));
+                case KIND_LONG:
+                    return validator.isValidLong(accessor.getLong(target));
+                case KIND_DOUBLE:
+                    return validator.isValidDouble(accessor.getDouble(target));
+                default:
+                    return validator.isValid(accessor.get(target));
+            }
+        }
+
+        /**
+         * 只有 int、long、double 按基本类型处理，其余基本类型仍装箱为各自的包装类型，保持与 Field.get 一致
+         */
+        private static int kindOf(Class<?> type) {
+            if (type == int.class) {
+                return KIND_INT;
+            } else if (type == long.class) {
+                return KIND_LONG;
+            } else if (type == double.class) {
+                return KIND_DOUBLE;
+            }
+            return KIND_OBJECT;
+        }
+    }
+}
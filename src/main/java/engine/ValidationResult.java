@@ -0,0 +1,75 @@
+package engine;
+
+import exceptions.ValidationException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 校验结果
+ * 由 ValidatorEngine.check 返回，校验失败时不抛出异常而是通过结果对象携带错误信息，
+ * 适用于非法输入占比较高、不希望为每次失败创建异常的场景
+ * 校验通过时统一返回共享的 VALID 实例，不产生额外对象
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ValidationResult
+ * @Date：2026/10/18 16:05
+ * @Filename：ValidationResult
+ */
+public final class ValidationResult {
+
+    /**
+     * 校验通过的结果，所有合法对象共享同一个实例
+     */
+    public static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<String> errors;
+
+    private ValidationResult(List<String> errors) {
+        this.errors = errors;
+    }
+
+    /**
+     * 根据错误信息创建校验结果
+     *
+     * @param errors 校验错误信息列表，调用方之后不应再修改
+     * @return 错误信息为空时返回 VALID，否则返回包含错误信息的结果
+     */
+    static ValidationResult of(List<String> errors) {
+        return errors.isEmpty() ? VALID : new ValidationResult(Collections.unmodifiableList(errors));
+    }
+
+    /**
+     * @return 所有校验都通过时返回true
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * 获取校验错误信息列表
+     *
+     * @return 不可修改的错误信息列表，校验通过时为空列表
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * 校验失败时抛出不包含堆栈信息的校验异常，供仍然希望使用异常处理流程的调用方使用
+     *
+     * @throws ValidationException 当校验失败时抛出，包含所有校验错误信息
+     */
+    public void throwIfInvalid() {
+        if (!errors.isEmpty()) {
+            throw ValidationException.withoutStackTrace(errors);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return errors.isEmpty() ? "ValidationResult[valid]" : "ValidationResult" + errors;
+    }
+}
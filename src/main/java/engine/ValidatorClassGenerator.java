@@ -0,0 +1,449 @@
+package engine;
+
+import annotations.*;
+import validators.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 校验类生成器
+ * 根据类型的校验计划生成专用的 {@link GeneratedValidator} 实现类，生成的 validate 方法为直线式代码：
+ * 逐个读取字段，内置注解直接调用 {@link utils.FieldValidator} 的静态方法并以常量传入注解属性，
+ * 自定义注解（或被替换的内置注解）调用计划中已初始化的校验器
+ *
+ * <p>类的定义方式：</p>
+ * <ul>
+ *     <li>JDK 15 及以上：通过 Lookup.defineHiddenClass 定义为被校验类的嵌套成员（NESTMATE）隐藏类，
+ *     可以直接用 getfield 读取私有字段</li>
+ *     <li>更早的 JDK：通过独立的 ClassLoader.defineClass 定义，无法访问私有字段，字段值通过 {@link FieldAccessor} 读取</li>
+ * </ul>
+ *
+ * @Author：zhangbaosheng
+ * @Package：engine
+ * @Project：validation-lib
+ * @name：ValidatorClassGenerator
+ * @Date：2026/10/18 13:20
+ * @Filename：ValidatorClassGenerator
+ */
+final class ValidatorClassGenerator {
+
+    private static final String FIELD_VALIDATOR = "utils/FieldValidator";
+    private static final String GENERATED_VALIDATOR = "engine/GeneratedValidator";
+    private static final String FIELD_ACCESSOR = "engine/FieldAccessor";
+    private static final String CONSTRAINT_VALIDATOR = "engine/ConstraintValidator";
+    private static final String CONSTANTS_FIELD = "constants";
+    private static final String CONSTANTS_DESC = "[Ljava/lang/Object;";
+
+    /**
+     * 可内联的内置校验器：校验器类型 -> FieldValidator 静态方法调用
+     */
+    private static final Map<Class<?>, InlineCall> INLINE_CALLS = new HashMap<>();
+
+    static {
+        inline(EmailValidator.class, "isValidEmail", "(Ljava/lang/String;)Z", a -> new Object[0],
+                a -> ((Email) a).blocklist().isEmpty());
+        inline(PhoneValidator.class, "isValidPhone", "(Ljava/lang/String;I)Z",
+                a -> new Object[]{PhoneValidator.carrierMask((Phone) a)});
+        inline(IdCardValidator.class, "isValidIdCard", "(Ljava/lang/String;Z)Z",
+                a -> new Object[]{((IdCard) a).strict()});
+        inline(PostalCodeValidator.class, "isValidPostalCode", "(Ljava/lang/String;)Z", a -> new Object[0]);
+        inline(UrlValidator.class, "isValidUrl", "(Ljava/lang/String;)Z", a -> new Object[0],
+                a -> !UrlValidator.hasRules((Url) a));
+        inline(QuantityValidator.class, "isValidQuantity", "(Ljava/lang/Integer;II)Z",
+                a -> new Object[]{((Quantity) a).min(), ((Quantity) a).max()});
+        inline(NameValidator.class, "isValidName", "(Ljava/lang/String;II)Z",
+                a -> new Object[]{((Name) a).minLength(), ((Name) a).maxLength()});
+        inline(AddressValidator.class, "isValidAddress", "(Ljava/lang/String;II)Z",
+                a -> new Object[]{((Address) a).minLength(), ((Address) a).maxLength()});
+        inline(DecimalValidator.class, "isValidDecimal", "(Ljava/math/BigDecimal;II)Z",
+                a -> new Object[]{((Decimal) a).integerPart(), ((Decimal) a).fractionPart()});
+    }
+
+    /**
+     * Lookup.defineHiddenClass 方法，JDK 15 以下为null
+     */
+    private static final Method DEFINE_HIDDEN_CLASS;
+
+    /**
+     * 隐藏类选项数组，仅包含 NESTMATE
+     */
+    private static final Object NESTMATE_OPTIONS;
+
+    /**
+     * MethodHandles.privateLookupIn 方法，JDK 8 中为null
+     */
+    private static final Method PRIVATE_LOOKUP_IN;
+
+    static {
+        Method defineHidden = null;
+        Object options = null;
+        Method privateLookupIn = null;
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            Class<?> optionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            options = Array.newInstance(optionType, 1);
+            Array.set(options, 0, optionType.getField("NESTMATE").get(null));
+            defineHidden = MethodHandles.Lookup.class.getMethod("defineHiddenClass",
+                    byte[].class, boolean.class, options.getClass());
+        } catch (ReflectiveOperationException e) {
+            // 当前 JDK 不支持隐藏类，使用 ClassLoader.defineClass
+        }
+        DEFINE_HIDDEN_CLASS = defineHidden;
+        NESTMATE_OPTIONS = options;
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+    }
+
+    private ValidatorClassGenerator() {
+    }
+
+    /**
+     * @return 当前 JDK 是否支持定义嵌套成员隐藏类（JDK 15 及以上）
+     */
+    static boolean supportsNestmates() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    /**
+     * 将字节码定义为宿主类的嵌套成员隐藏类，隐藏类中的代码可以直接读取宿主类的私有字段
+     *
+     * @param host  宿主类，隐藏类与其位于同一包中
+     * @param bytes class 文件字节，类名须位于宿主类的包中
+     * @return 隐藏类的 Lookup
+     */
+    static MethodHandles.Lookup defineNestmate(Class<?> host, byte[] bytes) throws Throwable {
+        MethodHandles.Lookup lookup = (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, host, MethodHandles.lookup());
+        return (MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(lookup, bytes, true, NESTMATE_OPTIONS);
+    }
+
+    /**
+     * 为类型生成专用校验器
+     *
+     * @param type 被校验对象的类型
+     * @param plan 该类型的校验计划
+     * @return 生成的校验器，当前环境无法生成时返回null
+     */
+    static GeneratedValidator generate(Class<?> type, ValidationPlan plan) {
+        if (supportsNestmates()) {
+            try {
+                return defineHidden(type, plan);
+            } catch (Throwable e) {
+                // 无法定义隐藏类（例如模块未开放该包），尝试普通类加载方式
+            }
+        }
+        try {
+            return defineInLoader(type, plan);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 以嵌套成员隐藏类的方式定义校验类，字段通过 getfield/getstatic 直接读取
+     */
+    private static GeneratedValidator defineHidden(Class<?> type, ValidationPlan plan) throws Throwable {
+        List<Object> constants = new ArrayList<>();
+        byte[] bytes = emit(type.getName().replace('.', '/') + "$$Validator", type, plan, true, constants);
+        MethodHandles.Lookup hidden = defineNestmate(type, bytes);
+        MethodHandle constructor = hidden.findConstructor(hidden.lookupClass(),
+                MethodType.methodType(void.class, Object[].class));
+        return (GeneratedValidator) constructor.invoke(constants.toArray());
+    }
+
+    /**
+     * 在独立的类加载器中定义校验类，字段通过 {@link FieldAccessor} 读取
+     */
+    private static GeneratedValidator defineInLoader(Class<?> type, ValidationPlan plan) throws Exception {
+        List<Object> constants = new ArrayList<>();
+        String name = "engine/generated/" + type.getName().replace('.', '_') + "$$Validator";
+        byte[] bytes = emit(name, type, plan, false, constants);
+        Class<?> generated = new GeneratedClassLoader(GeneratedValidator.class.getClassLoader())
+                .define(name.replace('/', '.'), bytes);
+        Constructor<?> constructor = generated.getConstructor(Object[].class);
+        return (GeneratedValidator) constructor.newInstance((Object) constants.toArray());
+    }
+
+    /**
+     * 生成校验类字节码
+     *
+     * @param className   生成类的内部名称
+     * @param type        被校验对象的类型
+     * @param plan        校验计划
+     * @param directAccess 是否直接读取字段（仅嵌套成员隐藏类可用）
+     * @param constants   输出参数：运行时常量（字段读取器、校验器实例），按索引传入生成类的构造函数
+     * @return class 文件字节
+     */
+    private static byte[] emit(String className, Class<?> type, ValidationPlan plan, boolean directAccess,
+                               List<Object> constants) {
+        ClassFileWriter cf = new ClassFileWriter(className, GENERATED_VALIDATOR);
+        cf.field(ClassFileWriter.ACC_PRIVATE | ClassFileWriter.ACC_FINAL, CONSTANTS_FIELD, CONSTANTS_DESC);
+        int constantsRef = cf.fieldRef(className, CONSTANTS_FIELD, CONSTANTS_DESC);
+
+        // 构造函数：保存运行时常量数组
+        ClassFileWriter.Code init = new ClassFileWriter.Code(2, 2);
+        init.op(ClassFileWriter.ALOAD_0);
+        init.op(ClassFileWriter.INVOKESPECIAL, cf.methodRef("java/lang/Object", "<init>", "()V"));
+        init.op(ClassFileWriter.ALOAD_0);
+        init.op(ClassFileWriter.ALOAD_1);
+        init.op(ClassFileWriter.PUTFIELD, constantsRef);
+        init.op(ClassFileWriter.RETURN);
+        cf.method(ClassFileWriter.ACC_PUBLIC, "<init>", "(" + CONSTANTS_DESC + ")V", init);
+
+        // validate(Object target, List errors)：局部变量 0=this 1=target 2=errors 3=强转后的target
+        String owner = type.getName().replace('.', '/');
+        ValidationPlan.Entry[] entries = plan.entries();
+        int maxStack = 4;
+        for (ValidationPlan.Entry entry : entries) {
+            InlineCall call = inlineCall(entry);
+            maxStack = Math.max(maxStack, 4 + (call == null || entry.kind != ValidationPlan.Entry.KIND_OBJECT
+                    ? 2 : call.argSlots));
+        }
+        ClassFileWriter.Code code = new ClassFileWriter.Code(maxStack, directAccess ? 4 : 3);
+        if (directAccess) {
+            code.op(ClassFileWriter.ALOAD_1);
+            code.op(ClassFileWriter.CHECKCAST, cf.classRef(owner));
+            code.op(ClassFileWriter.ASTORE_3);
+            code.appendedLocal(owner);
+        }
+        int addRef = cf.interfaceMethodRef("java/util/List", "add", "(Ljava/lang/Object;)Z");
+        for (ValidationPlan.Entry entry : entries) {
+            InlineCall call = inlineCall(entry);
+            if (entry.kind != ValidationPlan.Entry.KIND_OBJECT) {
+                // int、long、double 字段：按基本类型读取后调用校验器的基本类型校验方法，不装箱
+                loadConstant(cf, code, constantsRef, constants, entry.validator, CONSTRAINT_VALIDATOR);
+                loadPrimitive(cf, code, constantsRef, constants, entry, owner, directAccess);
+                PrimitiveKind kind = PrimitiveKind.of(entry.kind);
+                code.invokeInterface(cf.interfaceMethodRef(CONSTRAINT_VALIDATOR, kind.validate,
+                        "(" + kind.descriptor + ")Z"), kind.slots);
+            } else if (call == null) {
+                // 调用计划中已初始化的校验器
+                loadConstant(cf, code, constantsRef, constants, entry.validator, CONSTRAINT_VALIDATOR);
+                loadValue(cf, code, constantsRef, constants, entry, owner, directAccess);
+                code.invokeInterface(cf.interfaceMethodRef(CONSTRAINT_VALIDATOR, "isValid",
+                        "(Ljava/lang/Object;)Z"), 1);
+            } else {
+                // 直接调用 FieldValidator，注解属性作为常量
+                loadValue(cf, code, constantsRef, constants, entry, owner, directAccess);
+                code.op(ClassFileWriter.CHECKCAST, cf.classRef(call.valueType));
+                for (Object argument : call.arguments.apply(entry.annotation)) {
+                    code.loadConstant(cf, argument);
+                }
+                code.op(ClassFileWriter.INVOKESTATIC, cf.methodRef(FIELD_VALIDATOR, call.method, call.descriptor));
+            }
+            int skip = code.jump(ClassFileWriter.IFNE);
+            code.op(ClassFileWriter.ALOAD_2);
+            code.loadConstant(cf, entry.message);
+            code.invokeInterface(addRef, 1);
+            code.op(ClassFileWriter.POP);
+            code.land(skip);
+        }
+        code.op(ClassFileWriter.RETURN);
+        cf.method(ClassFileWriter.ACC_PUBLIC, "validate", "(Ljava/lang/Object;Ljava/util/List;)V", code);
+        return cf.toByteArray();
+    }
+
+    /**
+     * 将字段值压入操作数栈，基本类型装箱为对应的包装类型
+     */
+    private static void loadValue(ClassFileWriter cf, ClassFileWriter.Code code, int constantsRef,
+                                  List<Object> constants, ValidationPlan.Entry entry, String owner,
+                                  boolean directAccess) {
+        if (!directAccess) {
+            loadConstant(cf, code, constantsRef, constants, entry.accessor, FIELD_ACCESSOR);
+            code.op(ClassFileWriter.ALOAD_1);
+            code.invokeInterface(cf.interfaceMethodRef(FIELD_ACCESSOR, "get",
+                    "(Ljava/lang/Object;)Ljava/lang/Object;"), 1);
+            return;
+        }
+        Field field = entry.field;
+        Class<?> fieldType = field.getType();
+        String descriptor = descriptor(fieldType);
+        if (Modifier.isStatic(field.getModifiers())) {
+            code.op(ClassFileWriter.GETSTATIC, cf.fieldRef(owner, field.getName(), descriptor));
+        } else {
+            code.op(ClassFileWriter.ALOAD_3);
+            code.op(ClassFileWriter.GETFIELD, cf.fieldRef(owner, field.getName(), descriptor));
+        }
+        if (fieldType.isPrimitive()) {
+            String box = descriptor(box(fieldType));
+            String boxType = box.substring(1, box.length() - 1);
+            code.op(ClassFileWriter.INVOKESTATIC,
+                    cf.methodRef(boxType, "valueOf", "(" + descriptor + ")" + box));
+        }
+    }
+
+    /**
+     * 将 int、long、double 类型的字段值按基本类型压入操作数栈
+     */
+    private static void loadPrimitive(ClassFileWriter cf, ClassFileWriter.Code code, int constantsRef,
+                                      List<Object> constants, ValidationPlan.Entry entry, String owner,
+                                      boolean directAccess) {
+        PrimitiveKind kind = PrimitiveKind.of(entry.kind);
+        if (!directAccess) {
+            loadConstant(cf, code, constantsRef, constants, entry.accessor, FIELD_ACCESSOR);
+            code.op(ClassFileWriter.ALOAD_1);
+            code.invokeInterface(cf.interfaceMethodRef(FIELD_ACCESSOR, kind.read,
+                    "(Ljava/lang/Object;)" + kind.descriptor), 1);
+            return;
+        }
+        Field field = entry.field;
+        if (Modifier.isStatic(field.getModifiers())) {
+            code.op(ClassFileWriter.GETSTATIC, cf.fieldRef(owner, field.getName(), kind.descriptor));
+        } else {
+            code.op(ClassFileWriter.ALOAD_3);
+            code.op(ClassFileWriter.GETFIELD, cf.fieldRef(owner, field.getName(), kind.descriptor));
+        }
+    }
+
+    /**
+     * 基本类型字段的读取方法和校验方法
+     */
+    private enum PrimitiveKind {
+        INT("I", 1, "getInt", "isValidInt"),
+        LONG("J", 2, "getLong", "isValidLong"),
+        DOUBLE("D", 2, "getDouble", "isValidDouble");
+
+        final String descriptor;
+        final int slots;
+        final String read;
+        final String validate;
+
+        PrimitiveKind(String descriptor, int slots, String read, String validate) {
+            this.descriptor = descriptor;
+            this.slots = slots;
+            this.read = read;
+            this.validate = validate;
+        }
+
+        static PrimitiveKind of(int entryKind) {
+            switch (entryKind) {
+                case ValidationPlan.Entry.KIND_INT:
+                    return INT;
+                case ValidationPlan.Entry.KIND_LONG:
+                    return LONG;
+                default:
+                    return DOUBLE;
+            }
+        }
+    }
+
+    /**
+     * 将运行时常量数组中的元素压入操作数栈
+     */
+    private static void loadConstant(ClassFileWriter cf, ClassFileWriter.Code code, int constantsRef,
+                                     List<Object> constants, Object value, String type) {
+        constants.add(value);
+        code.op(ClassFileWriter.ALOAD_0);
+        code.op(ClassFileWriter.GETFIELD, constantsRef);
+        code.pushInt(constants.size() - 1, cf);
+        code.op(ClassFileWriter.AALOAD);
+        code.op(ClassFileWriter.CHECKCAST, cf.classRef(type));
+    }
+
+    static String descriptor(Class<?> type) {
+        if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == double.class) {
+            return "D";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == boolean.class) {
+            return "Z";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == short.class) {
+            return "S";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    static Class<?> box(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+
+    private static void inline(Class<?> validator, String method, String descriptor,
+                               Function<Annotation, Object[]> arguments) {
+        inline(validator, method, descriptor, arguments, a -> true);
+    }
+
+    /**
+     * @param inlinable 注解配置是否可以内联，不可内联时调用校验器实例（例如需要加载外部数据的配置）
+     */
+    private static void inline(Class<?> validator, String method, String descriptor,
+                               Function<Annotation, Object[]> arguments, Predicate<Annotation> inlinable) {
+        INLINE_CALLS.put(validator, new InlineCall(method, descriptor, arguments, inlinable));
+    }
+
+    /**
+     * @return 校验项对应的内联调用，不可内联时为null
+     */
+    private static InlineCall inlineCall(ValidationPlan.Entry entry) {
+        InlineCall call = INLINE_CALLS.get(entry.validator.getClass());
+        return call != null && call.inlinable.test(entry.annotation) ? call : null;
+    }
+
+    /**
+     * 内联的 FieldValidator 静态方法调用
+     */
+    private static final class InlineCall {
+        final String method;
+        final String descriptor;
+        final String valueType;
+        final int argSlots;
+        final Function<Annotation, Object[]> arguments;
+        final Predicate<Annotation> inlinable;
+
+        InlineCall(String method, String descriptor, Function<Annotation, Object[]> arguments,
+                   Predicate<Annotation> inlinable) {
+            this.method = method;
+            this.descriptor = descriptor;
+            this.arguments = arguments;
+            this.inlinable = inlinable;
+            // 第一个参数为字段值（对象类型），其余为注解属性常量
+            int end = descriptor.indexOf(';');
+            this.valueType = descriptor.substring(2, end);
+            int slots = 1;
+            String rest = descriptor.substring(end + 1, descriptor.indexOf(')'));
+            for (int i = 0; i < rest.length(); i++) {
+                char c = rest.charAt(i);
+                if (c == 'L') {
+                    i = rest.indexOf(';', i);
+                }
+                slots += (c == 'J' || c == 'D') ? 2 : 1;
+            }
+            this.argSlots = slots;
+        }
+    }
+
+    /**
+     * 用于 JDK 15 以下定义校验类的类加载器
+     */
+    private static final class GeneratedClassLoader extends ClassLoader {
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
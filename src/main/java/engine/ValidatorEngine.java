@@ -1,17 +1,25 @@
 package engine;
 
-import annotations.*;
 import exceptions.ValidationException;
-import utils.FieldValidator;
 
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 校验引擎
  * 通过反射扫描对象字段及自定义注解，并调用对应的工具方法进行校验
+ * 扫描结果按类缓存为校验计划，同一类型只扫描一次
+ * 如果编译期注解处理器（validation-processor）已为该类型生成了校验类，则直接使用生成的校验类，不再进行反射扫描
  *
  * @Author：zhangbaosheng
  * @Package：engine
@@ -22,9 +30,26 @@ import java.util.List;
  */
 public class ValidatorEngine {
 
+    /**
+     * 编译期生成的校验类名称后缀，例如 com.example.UserDTO 对应 com.example.UserDTOValidator，
+     * 嵌套类 com.example.Outer$Inner 对应 com.example.Outer_InnerValidator
+     */
+    private static final String GENERATED_SUFFIX = "Validator";
+
+    /**
+     * 按类缓存的校验器：优先使用编译期生成的校验类，不存在时使用校验计划
+     */
+    private static final ClassValue<GeneratedValidator> VALIDATORS = new ClassValue<GeneratedValidator>() {
+        @Override
+        protected GeneratedValidator computeValue(Class<?> type) {
+            GeneratedValidator generated = loadGenerated(type);
+            return generated != null ? generated : ValidationPlan.of(type)::validate;
+        }
+    };
+
     /**
      * 对目标对象进行校验
-     * 通过反射机制遍历对象的所有字段，检查字段上的注解并执行相应的校验逻辑
+     * 通过该类型的校验计划遍历所有带校验注解的字段并执行相应的校验逻辑
      *
      * @param target 需要校验的对象
      * @throws ValidationException 当校验失败时抛出，包含所有校验错误信息
@@ -33,178 +58,181 @@ public class ValidatorEngine {
         // 存储所有校验错误信息
         List<String> errors = new ArrayList<>();
 
-        // 遍历对象所有声明的字段（包括私有字段）
-        for (Field field : target.getClass().getDeclaredFields()) {
-            // 设置字段可访问，以便获取私有字段的值
-            field.setAccessible(true);
-            Object value;
-            try {
-                // 获取字段的当前值
-                value = field.get(target);
-            } catch (IllegalAccessException e) {
-                // 如果无法访问字段，跳过该字段的校验
-                continue;
-            }
+        // 按类缓存的校验器只在首次校验时查找生成类或扫描字段和注解，之后直接调用
+        VALIDATORS.get(target.getClass()).validate(target, errors);
 
-            // 邮箱校验 - 检查字段是否有@Email注解
-            if (field.isAnnotationPresent(Email.class)) {
-                // 调用工具类方法进行邮箱格式校验
-                if (!FieldValidator.isValidEmail((String) value)) {
-                    // 校验失败，添加错误信息
-                    errors.add(field.getAnnotation(Email.class).message());
-                }
-            }
-
-            // 手机号校验 - 检查字段是否有@Phone注解
-            if (field.isAnnotationPresent(Phone.class)) {
-                // 调用工具类方法进行手机号格式校验
-                if (!FieldValidator.isValidPhone((String) value)) {
-                    // 校验失败，添加错误信息
-                    errors.add(field.getAnnotation(Phone.class).message());
-                }
-            }
+        // 如果存在校验错误，则抛出异常
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
 
-            // 身份证号码校验 - 检查字段是否有@IdCard注解
-            if (field.isAnnotationPresent(IdCard.class)) {
-                // 调用工具类方法进行身份证号码格式校验
-                if (!FieldValidator.isValidIdCard((String) value)) {
-                    // 校验失败，添加错误信息
-                    errors.add(field.getAnnotation(IdCard.class).message());
-                }
-            }
+    /**
+     * 对目标对象进行校验，并以结果对象的形式返回校验结果
+     * 与 validate 的校验逻辑和错误信息完全一致，但校验失败时不抛出异常，
+     * 避免在非法输入较多时为每次失败创建异常、填充堆栈
+     *
+     * @param target 需要校验的对象
+     * @return 校验结果，校验通过时返回共享的 ValidationResult.VALID
+     */
+    public static ValidationResult check(Object target) {
+        List<String> errors = new ArrayList<>();
+        VALIDATORS.get(target.getClass()).validate(target, errors);
+        return ValidationResult.of(errors);
+    }
 
-            // 金额范围校验 - 检查字段是否有@Price注解
-            if (field.isAnnotationPresent(Price.class)) {
-                // 获取注解配置信息
-                Price conf = field.getAnnotation(Price.class);
-                // 调用工具类方法进行金额范围校验
-                if (!FieldValidator.isValidPrice((BigDecimal) value, conf.min(), conf.max())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 并行校验集合中的所有元素
+     * 元素数量较多时按下标切分后在 ForkJoin 公共线程池中并行校验，数量不超过 512 时直接在当前线程顺序校验
+     *
+     * @param targets 需要校验的对象集合，不能包含null元素
+     * @return 不可修改的校验结果列表，第 i 个结果对应集合迭代顺序中的第 i 个元素
+     */
+    public static List<ValidationResult> validateAll(Collection<?> targets) {
+        return BatchValidation.validateAll(targets.toArray());
+    }
 
-            // 数量范围校验 - 检查字段是否有@Quantity注解
-            if (field.isAnnotationPresent(Quantity.class)) {
-                // 获取注解配置信息
-                Quantity conf = field.getAnnotation(Quantity.class);
-                // 调用工具类方法进行数量范围校验
-                if (!FieldValidator.isValidQuantity((Integer) value, conf.min(), conf.max())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 使用指定的 Executor 并行校验集合中的所有元素
+     *
+     * @param targets  需要校验的对象集合，不能包含null元素
+     * @param executor 执行校验任务的线程池
+     * @return 不可修改的校验结果列表，第 i 个结果对应集合迭代顺序中的第 i 个元素
+     */
+    public static List<ValidationResult> validateAll(Collection<?> targets, Executor executor) {
+        return BatchValidation.validateAll(targets.toArray(), executor);
+    }
 
-            // 邮政编码校验 - 检查字段是否有@PostalCode注解
-            if (field.isAnnotationPresent(PostalCode.class) &&
-                    !FieldValidator.isValidPostalCode((String) value)) {
-                // 调用工具类方法进行邮政编码格式校验
-                errors.add(field.getAnnotation(PostalCode.class).message());
-            }
+    /**
+     * 并行校验 Spliterator 中的所有元素
+     * 可精确拆分（SUBSIZED）的 Spliterator 不复制元素，直接按 trySplit 的结果分派到 ForkJoin 公共线程池
+     *
+     * @param targets 需要校验的对象，不能包含null元素
+     * @return 不可修改的校验结果列表，第 i 个结果对应遍历顺序中的第 i 个元素
+     */
+    public static List<ValidationResult> validateAll(Spliterator<?> targets) {
+        return BatchValidation.validateAll(targets);
+    }
 
-            // 姓名长度校验 - 检查字段是否有@Name注解
-            if (field.isAnnotationPresent(Name.class)) {
-                // 获取注解配置信息
-                Name conf = field.getAnnotation(Name.class);
-                // 调用工具类方法进行姓名长度校验
-                if (!FieldValidator.isValidName((String) value, conf.minLength(), conf.maxLength())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 使用指定的 Executor 并行校验 Spliterator 中的所有元素
+     *
+     * @param targets  需要校验的对象，不能包含null元素
+     * @param executor 执行校验任务的线程池
+     * @return 不可修改的校验结果列表，第 i 个结果对应遍历顺序中的第 i 个元素
+     */
+    public static List<ValidationResult> validateAll(Spliterator<?> targets, Executor executor) {
+        return BatchValidation.validateAll(BatchValidation.drain(targets), executor);
+    }
 
-            // 地址长度校验 - 检查字段是否有@Address注解
-            if (field.isAnnotationPresent(Address.class)) {
-                // 获取注解配置信息
-                Address conf = field.getAnnotation(Address.class);
-                // 调用工具类方法进行地址长度校验
-                if (!FieldValidator.isValidAddress((String) value, conf.minLength(), conf.maxLength())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 惰性地校验流中的每个元素
+     * 返回的流在被消费时才逐个校验元素，不缓存已处理的元素，适用于 NDJSON、数据库游标导出等无法一次性载入的数据源。
+     * 校验与 validate 共用按类缓存的校验器；并行流中元素在各线程上校验，使用 forEachOrdered 等有序终止操作时结果仍按原顺序输出
+     *
+     * @param source 需要校验的对象流，不能包含null元素
+     * @param <T>    元素类型
+     * @return 元素与其校验结果组成的流
+     */
+    public static <T> Stream<Validated<T>> stream(Stream<T> source) {
+        return source.map(ValidatorEngine::validated);
+    }
 
-            // 数值精度校验 - 检查字段是否有@Decimal注解
-            if (field.isAnnotationPresent(Decimal.class)) {
-                // 获取注解配置信息
-                Decimal conf = field.getAnnotation(Decimal.class);
-                // 调用工具类方法进行数值精度校验
-                if (!FieldValidator.isValidDecimal((BigDecimal) value, conf.integerPart(), conf.fractionPart())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 惰性地校验迭代器中的每个元素
+     *
+     * @param source 需要校验的对象迭代器，不能返回null元素
+     * @param <T>    元素类型
+     * @return 元素与其校验结果组成的顺序流
+     * @see #stream(Stream)
+     */
+    public static <T> Stream<Validated<T>> stream(Iterator<T> source) {
+        return stream(StreamSupport.stream(Spliterators.spliteratorUnknownSize(source, Spliterator.ORDERED), false));
+    }
 
-            // 日期时间校验 - 检查字段是否有@DateTime注解
-            if (field.isAnnotationPresent(DateTime.class)) {
-                // 获取注解配置信息
-                DateTime conf = field.getAnnotation(DateTime.class);
-                // 调用工具类方法进行日期时间格式和范围校验
-                if (!FieldValidator.isValidDateTime((String) value, conf.pattern(), conf.min(), conf.max())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
+    /**
+     * 逐个校验流中的元素，并按校验结果分发到合法与非法两个接收方
+     * 每次只处理一个元素，不缓存已处理的元素。对并行流而言，校验在各线程上并行执行，
+     * 而接收方按元素原有顺序依次调用，不会被并发调用，因此无需线程安全，输出的错误报告顺序也与输入一致
+     *
+     * @param source       需要校验的对象流，不能包含null元素
+     * @param validSink    接收合法元素
+     * @param invalidSink  接收非法元素及其校验结果
+     * @param <T>          元素类型
+     */
+    public static <T> void validateEach(Stream<T> source, Consumer<? super T> validSink,
+                                        BiConsumer<? super T, ValidationResult> invalidSink) {
+        stream(source).forEachOrdered(item -> {
+            if (item.isValid()) {
+                validSink.accept(item.getElement());
+            } else {
+                invalidSink.accept(item.getElement(), item.getResult());
             }
+        });
+    }
 
-            // URL格式校验 - 检查字段是否有@Url注解
-            if (field.isAnnotationPresent(Url.class) &&
-                    !FieldValidator.isValidUrl((String) value)) {
-                // 调用工具类方法进行URL格式校验
-                errors.add(field.getAnnotation(Url.class).message());
-            }
+    private static <T> Validated<T> validated(T target) {
+        return new Validated<>(target, check(target));
+    }
 
-            // 文件校验 - 检查字段是否有@FileConstraint注解
-            if (field.isAnnotationPresent(FileConstraint.class)) {
-                // 获取注解配置信息
-                FileConstraint conf = field.getAnnotation(FileConstraint.class);
-                // 检查字段值是否为FileData类型
-                if (value instanceof FileData) {
-                    // 转换为FileData对象
-                    FileData fd = (FileData) value;
-                    // 调用工具类方法进行文件校验（大小和类型）
-                    if (!FieldValidator.isValidFile(fd.getContent(), conf.maxSizeKB(), conf.allowedTypes(), fd.getMimeType())) {
-                        // 校验失败，添加错误信息
-                        errors.add(conf.message());
-                    }
-                } else {
-                    // 字段值不是FileData类型，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 获取指定类型的校验器，供批量校验的各工作线程共享
+     *
+     * @param type 被校验对象的类型
+     * @return 按类缓存的校验器
+     */
+    static GeneratedValidator validatorFor(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
 
-            // 密码复杂度校验 - 检查字段是否有@Password注解
-            if (field.isAnnotationPresent(Password.class)) {
-                // 获取注解配置信息
-                Password conf = field.getAnnotation(Password.class);
-                // 调用工具类方法进行密码复杂度校验
-                if (!FieldValidator.isValidPassword(
-                        (String) value,
-                        conf.requireUppercase(),
-                        conf.requireLowercase(),
-                        conf.requireDigit(),
-                        conf.requireSpecial(),
-                        conf.minLength(),
-                        conf.maxLength())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 快速判断目标对象是否合法
+     * 按校验开销从小到大执行，遇到第一个校验失败立即返回，不收集错误信息。
+     * 适用于只需要知道对象是否合法的场景（例如数据导入时过滤非法记录）
+     *
+     * @param target 需要校验的对象
+     * @return 所有校验都通过时返回true
+     */
+    public static boolean isValid(Object target) {
+        return ValidationPlan.of(target.getClass()).firstViolation(target) == null;
+    }
 
-            // 枚举值校验 - 检查字段是否有@EnumValue注解
-            if (field.isAnnotationPresent(EnumValue.class)) {
-                // 获取注解配置信息
-                EnumValue conf = field.getAnnotation(EnumValue.class);
-                // 调用工具类方法进行枚举值校验
-                if (!FieldValidator.isValidEnumValue(value, conf.enumClass())) {
-                    // 校验失败，添加错误信息
-                    errors.add(conf.message());
-                }
-            }
+    /**
+     * 快速失败模式的校验
+     * 按校验开销从小到大执行，遇到第一个校验失败立即抛出异常，异常中只包含这一条错误信息
+     *
+     * @param target 需要校验的对象
+     * @throws ValidationException 当校验失败时抛出，只包含第一个失败的校验的错误信息
+     */
+    public static void validateFast(Object target) {
+        String error = ValidationPlan.of(target.getClass()).firstViolation(target);
+        if (error != null) {
+            throw new ValidationException(Collections.singletonList(error));
         }
+    }
 
-        // 如果存在校验错误，则抛出异常
-        if (!errors.isEmpty()) {
-            throw new ValidationException(errors);
+    /**
+     * 查找并实例化编译期生成的校验类
+     * 生成的校验类只包含内置注解的校验逻辑，所依据的注解注册过自定义校验器时不使用
+     *
+     * @param type 被校验对象的类型
+     * @return 生成的校验器，不存在时返回null
+     */
+    private static GeneratedValidator loadGenerated(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+        try {
+            Class<?> generated = Class.forName(type.getName().replace('$', '_') + GENERATED_SUFFIX, false, loader);
+            if (!GeneratedValidator.class.isAssignableFrom(generated)) {
+                return null;
+            }
+            GeneratedValidator validator = (GeneratedValidator) generated.getDeclaredConstructor().newInstance();
+            return ConstraintRegistry.isCustomized(validator.annotationTypes()) ? null : validator;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // 未生成校验类或无法实例化，使用校验计划
+            return null;
         }
     }
 }
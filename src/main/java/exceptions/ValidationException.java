@@ -29,6 +29,29 @@ public class ValidationException extends RuntimeException {
         this.errors = errors;
     }
 
+    /**
+     * 构造函数
+     * 校验失败属于预期内的业务结果，调用方通常只关心错误信息而不关心异常的抛出位置，
+     * 此时可以关闭堆栈捕获，避免填充堆栈带来的开销
+     *
+     * @param errors             校验错误信息列表
+     * @param writableStackTrace 是否捕获堆栈信息，为false时异常不包含堆栈
+     */
+    public ValidationException(List<String> errors, boolean writableStackTrace) {
+        super("字段校验失败", null, false, writableStackTrace);
+        this.errors = errors;
+    }
+
+    /**
+     * 创建不捕获堆栈信息的校验异常
+     *
+     * @param errors 校验错误信息列表
+     * @return 不包含堆栈信息的校验异常
+     */
+    public static ValidationException withoutStackTrace(List<String> errors) {
+        return new ValidationException(errors, false);
+    }
+
     /**
      * 获取校验错误信息列表
      *
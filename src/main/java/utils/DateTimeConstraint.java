@@ -0,0 +1,275 @@
+package utils;
+
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 预编译的日期时间约束
+ * 将 @DateTime 注解的格式、是否包含时间部分以及最小/最大范围在创建时一次性解析好，
+ * 每次校验只需解析被校验的值并与已解析的边界比较
+ * 解析失败通过返回值而不是异常表示，非法输入较多时不会产生异常开销
+ * 标准格式 yyyy-MM-dd 和 yyyy-MM-dd HH:mm:ss 使用 FieldValidator 中的手写解析器，边界预先打包为long，校验时不创建任何对象
+ * LocalDate、LocalDateTime、Instant 类型的值不需要解析，直接与已解析的边界比较
+ * 实例不可变，可以在多个线程间共享
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：DateTimeConstraint
+ * @Date：2026/10/18 17:40
+ * @Filename：DateTimeConstraint
+ */
+public final class DateTimeConstraint {
+
+    /**
+     * 按格式解析为 LocalDateTime（或 LocalDate）的解析器，格式非法时为null
+     */
+    private final Format parser;
+
+    /**
+     * 格式是否包含时间部分，不包含时按当天开始时间比较
+     */
+    private final boolean hasTime;
+
+    /**
+     * 最小日期时间，为null表示无最小限制
+     */
+    private final LocalDateTime min;
+
+    /**
+     * 最大日期时间，为null表示无最大限制
+     */
+    private final LocalDateTime max;
+
+    /**
+     * 格式或边界无法解析时为true，此时任何值都校验失败
+     */
+    private final boolean broken;
+
+    /**
+     * 是否为可以使用手写解析器的标准格式
+     */
+    private final boolean standard;
+
+    /**
+     * 打包后的最小/最大日期时间，无限制时分别为 Long.MIN_VALUE / Long.MAX_VALUE
+     */
+    private final long packedMin;
+    private final long packedMax;
+
+    /**
+     * Instant 类型的值转换为本地日期时间时使用的时区，时区ID非法时为null
+     */
+    private final ZoneId zone;
+
+    private DateTimeConstraint(Format parser, boolean hasTime, LocalDateTime min, LocalDateTime max, boolean broken,
+                               boolean standard, ZoneId zone) {
+        this.parser = parser;
+        this.hasTime = hasTime;
+        this.min = min;
+        this.max = max;
+        this.broken = broken;
+        this.standard = standard;
+        this.zone = zone;
+        this.packedMin = min == null ? Long.MIN_VALUE : pack(min);
+        this.packedMax = max == null ? Long.MAX_VALUE : pack(max);
+    }
+
+    /**
+     * 编译日期时间约束
+     *
+     * @param pattern 日期时间格式
+     * @param min     最小日期时间，为null或空字符串表示无最小限制
+     * @param max     最大日期时间，为null或空字符串表示无最大限制
+     * @return 编译后的约束，格式或边界无法解析时返回的约束对任何值都校验失败
+     */
+    public static DateTimeConstraint compile(String pattern, String min, String max) {
+        return compile(pattern, min, max, "UTC");
+    }
+
+    /**
+     * 编译日期时间约束
+     *
+     * @param pattern 日期时间格式
+     * @param min     最小日期时间，为null或空字符串表示无最小限制
+     * @param max     最大日期时间，为null或空字符串表示无最大限制
+     * @param zone    Instant 类型的值比较范围时使用的时区ID，非法时 Instant 类型的值一律校验失败
+     * @return 编译后的约束，格式或边界无法解析时返回的约束对任何值都校验失败
+     */
+    public static DateTimeConstraint compile(String pattern, String min, String max, String zone) {
+        if (pattern == null) {
+            return new DateTimeConstraint(null, false, null, null, true, false, null);
+        }
+        DateTimeFormatter formatter;
+        try {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+        } catch (IllegalArgumentException e) {
+            // 格式本身非法，只在编译时发生一次
+            return new DateTimeConstraint(null, false, null, null, true, false, null);
+        }
+        boolean hasTime = pattern.contains("H") || pattern.contains("m") || pattern.contains("s");
+        Format parser = hasTime ? formatter.toFormat(LocalDateTime::from) : formatter.toFormat(LocalDate::from);
+        boolean standard = FieldValidator.STANDARD_DATE.equals(pattern) || FieldValidator.STANDARD_DATE_TIME.equals(pattern);
+        DateTimeConstraint unbounded = new DateTimeConstraint(parser, hasTime, null, null, false, false, null);
+
+        LocalDateTime minDt = null;
+        LocalDateTime maxDt = null;
+        boolean broken = false;
+        if (min != null && !min.isEmpty()) {
+            minDt = unbounded.parse(min);
+            broken = minDt == null;
+        }
+        if (max != null && !max.isEmpty()) {
+            maxDt = unbounded.parse(max);
+            broken |= maxDt == null;
+        }
+        return new DateTimeConstraint(parser, hasTime, minDt, maxDt, broken, standard, zoneOf(zone));
+    }
+
+    /**
+     * 是否为使用手写解析器的标准格式（yyyy-MM-dd 或 yyyy-MM-dd HH:mm:ss），
+     * 此时字符串值只需一次定长扫描，不经过 DateTimeFormatter
+     *
+     * @return 是否为标准格式
+     */
+    public boolean isStandard() {
+        return standard;
+    }
+
+    /**
+     * 校验日期时间字符串是否符合格式和范围要求
+     *
+     * @param dateTime 日期时间字符串
+     * @return 是否符合格式和范围要求
+     */
+    public boolean isValid(String dateTime) {
+        if (dateTime == null || broken) {
+            return false;
+        }
+        if (standard) {
+            long value = FieldValidator.parseStandardDateTime(dateTime, hasTime);
+            if (value != FieldValidator.PACKED_UNKNOWN) {
+                return value != FieldValidator.PACKED_INVALID && value >= packedMin && value <= packedMax;
+            }
+        }
+        LocalDateTime dt = parse(dateTime);
+        if (dt == null) {
+            return false;
+        }
+        return (min == null || !dt.isBefore(min)) && (max == null || !dt.isAfter(max));
+    }
+
+    /**
+     * 校验任意支持类型的值：String 按格式解析后校验范围，LocalDate、LocalDateTime、Instant 直接校验范围
+     *
+     * @param value 字段值
+     * @return 是否符合要求，null 或不支持的类型返回false
+     */
+    public boolean isValidValue(Object value) {
+        if (value instanceof String) {
+            return isValid((String) value);
+        }
+        if (value instanceof LocalDateTime) {
+            return isValid((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return isValid((LocalDate) value);
+        }
+        if (value instanceof Instant) {
+            return isValid((Instant) value);
+        }
+        return false;
+    }
+
+    /**
+     * 校验日期是否在范围内，日期按当天的开始时间比较
+     *
+     * @param date 日期
+     * @return 是否在范围内
+     */
+    public boolean isValid(LocalDate date) {
+        if (date == null || broken) {
+            return false;
+        }
+        long value = FieldValidator.packDateTime(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), 0, 0, 0);
+        return value >= packedMin && value <= packedMax;
+    }
+
+    /**
+     * 校验日期时间是否在范围内
+     * 格式不包含时间部分时（例如 yyyy-MM-dd）只比较日期，与字符串值的语义一致
+     *
+     * @param dateTime 日期时间
+     * @return 是否在范围内
+     */
+    public boolean isValid(LocalDateTime dateTime) {
+        if (dateTime == null || broken) {
+            return false;
+        }
+        if (!hasTime) {
+            return isValid(dateTime.toLocalDate());
+        }
+        long value = pack(dateTime);
+        // 打包值精确到秒，秒以下部分不为0时严格大于同一秒的上限
+        return value >= packedMin && (value < packedMax || (value == packedMax && dateTime.getNano() == 0));
+    }
+
+    /**
+     * 校验时间点是否在范围内，时间点按注解指定的时区转换为本地日期时间后比较
+     *
+     * @param instant 时间点
+     * @return 是否在范围内
+     */
+    public boolean isValid(Instant instant) {
+        if (instant == null || zone == null || broken) {
+            return false;
+        }
+        LocalDateTime dateTime;
+        try {
+            dateTime = LocalDateTime.ofInstant(instant, zone);
+        } catch (DateTimeException e) {
+            // 超出 LocalDateTime 可表示的范围，只可能出现在极端的时间点上
+            return false;
+        }
+        return isValid(dateTime);
+    }
+
+    /**
+     * 按格式解析日期时间字符串，要求整个字符串都被解析
+     * 不包含时间部分的格式解析为 LocalDate 后转换为当天的开始时间
+     *
+     * @param text 日期时间字符串
+     * @return 解析结果，无法解析时返回null
+     */
+    private LocalDateTime parse(String text) {
+        ParsePosition position = new ParsePosition(0);
+        Object parsed = parser.parseObject(text, position);
+        if (parsed == null || position.getIndex() != text.length()) {
+            return null;
+        }
+        return hasTime ? (LocalDateTime) parsed : ((LocalDate) parsed).atStartOfDay();
+    }
+
+    private static long pack(LocalDateTime dateTime) {
+        return FieldValidator.packDateTime(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+    }
+
+    private static ZoneId zoneOf(String zone) {
+        if (zone == null || zone.isEmpty() || "UTC".equals(zone)) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 邮箱域名黑名单（一次性邮箱、被封禁的域名等）
+ * 黑名单是以开放寻址（线性探测）组织的 64 位域名指纹哈希表，保存在 {@link EmailDomainBlocklistBuilder} 生成的文件中，
+ * 通过 FileChannel.map 映射到内存，数百万个域名也不占用堆内存；小规模的名单也可以用 {@link #of} 直接构建在直接缓冲区中
+ *
+ * <p>查找时从域名末尾向前逐个字符计算哈希（ASCII 字母按小写处理），每经过一个 . 就得到一个上级域名的指纹并查表，
+ * 因此名单中的 example.com 同时屏蔽 mail.example.com 等所有子域名，整个过程只遍历一次域名、不截取子串也不创建对象。
+ * 指纹为 64 位，数百万个域名时把未列出的域名误判为已列出的概率在 10^-12 量级</p>
+ *
+ * <p>文件格式（大端序）：</p>
+ * <pre>
+ * 0   int   魔数 0x454D4442（"EMDB"）
+ * 4   int   版本号 1
+ * 8   long  域名数
+ * 16  int   槽位数（2 的幂，至少为域名数的 2 倍）
+ * 20  12字节 保留
+ * 32  槽位：每个槽位一个 long 指纹，0 表示空槽位
+ * </pre>
+ *
+ * <p>实例不可变，查找只使用绝对位置读取，可以在多个线程间共享。文件使用期间不能原地覆盖，更新时应生成新文件并修改配置的路径</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：EmailDomainBlocklist
+ * @Date：2026/10/18 23:10
+ * @Filename：EmailDomainBlocklist
+ */
+public final class EmailDomainBlocklist {
+
+    static final int MAGIC = 0x454D4442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+
+    /**
+     * 槽位数上限 2^27（1GB），哈希表可以映射为单个缓冲区
+     */
+    static final int MAX_SLOTS = 1 << 27;
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     * 已加载的黑名单，同一文件只映射一次
+     */
+    private static final Map<Path, EmailDomainBlocklist> OPENED = new ConcurrentHashMap<>();
+
+    private final long count;
+
+    private final ByteBuffer slots;
+
+    private final int mask;
+
+    private EmailDomainBlocklist(long count, ByteBuffer slots, int slotCount) {
+        this.count = count;
+        this.slots = slots;
+        this.mask = slotCount - 1;
+    }
+
+    /**
+     * 加载黑名单文件，同一文件只映射一次
+     *
+     * @param file 黑名单文件，相对路径按工作目录解析
+     * @return 黑名单
+     * @throws IOException 文件无法读取或格式不正确
+     */
+    public static EmailDomainBlocklist open(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        EmailDomainBlocklist blocklist = OPENED.get(key);
+        if (blocklist == null) {
+            EmailDomainBlocklist loaded = load(key);
+            blocklist = OPENED.putIfAbsent(key, loaded);
+            if (blocklist == null) {
+                blocklist = loaded;
+            }
+        }
+        return blocklist;
+    }
+
+    /**
+     * 按注解中配置的路径加载黑名单文件，供校验器和生成的校验类在初始化时调用
+     *
+     * @param path 黑名单文件路径，相对路径按工作目录解析
+     * @return 黑名单
+     * @throws IllegalArgumentException 文件无法读取或格式不正确
+     */
+    public static EmailDomainBlocklist open(String path) {
+        try {
+            return open(Paths.get(path));
+        } catch (IOException | InvalidPathException e) {
+            throw new IllegalArgumentException("无法加载邮箱域名黑名单: " + path, e);
+        }
+    }
+
+    /**
+     * 在直接缓冲区中构建黑名单，适用于不需要单独文件的小规模名单
+     *
+     * @param domains 域名，格式同 {@link EmailDomainBlocklistBuilder} 的输入行
+     * @return 黑名单
+     */
+    public static EmailDomainBlocklist of(Collection<String> domains) {
+        long[] fingerprints = new long[domains.size()];
+        int length = 0;
+        for (String domain : domains) {
+            long fingerprint = EmailDomainBlocklistBuilder.fingerprintLine(domain);
+            if (fingerprint != 0) {
+                fingerprints[length++] = fingerprint;
+            }
+        }
+        long[] table = EmailDomainBlocklistBuilder.table(fingerprints, length);
+        ByteBuffer slots = ByteBuffer.allocateDirect(table.length * 8);
+        long count = 0;
+        for (long slot : table) {
+            slots.putLong(slot);
+            if (slot != 0) {
+                count++;
+            }
+        }
+        return new EmailDomainBlocklist(count, slots, table.length);
+    }
+
+    private static EmailDomainBlocklist load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("邮箱域名黑名单文件格式不正确: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            long count = header.getLong(8);
+            int slotCount = header.getInt(16);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                    || slotCount < 2 || slotCount > MAX_SLOTS || Integer.bitCount(slotCount) != 1
+                    || count < 0 || count > slotCount / 2 || size != HEADER_BYTES + (long) slotCount * 8) {
+                throw new IOException("邮箱域名黑名单文件格式不正确: " + file);
+            }
+            // 映射在通道关闭后仍然有效
+            ByteBuffer slots = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) slotCount * 8);
+            return new EmailDomainBlocklist(count, slots, slotCount);
+        }
+    }
+
+    /**
+     * @return 黑名单中的域名数
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 判断邮箱地址的域名（最后一个 @ 之后的部分）或其任一上级域名是否在黑名单中
+     * 含有多个 @ 的地址无法确定域名，一律视为被屏蔽，避免 u@x@blocked.com 这类地址绕过黑名单
+     *
+     * @param email 邮箱地址，为null或不含 @ 时返回false
+     * @return 是否被屏蔽
+     */
+    public boolean blocks(String email) {
+        if (email == null) {
+            return false;
+        }
+        int at = email.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        return email.indexOf('@') != at || containsDomain(email, at + 1, email.length());
+    }
+
+    /**
+     * 判断域名或其任一上级域名是否在黑名单中
+     *
+     * @param domain 域名，末尾的 . 被忽略
+     * @return 是否被屏蔽
+     */
+    public boolean containsDomain(CharSequence domain) {
+        return domain != null && containsDomain(domain, 0, domain.length());
+    }
+
+    /**
+     * 判断 text[from, to) 表示的域名或其任一上级域名是否在黑名单中
+     */
+    private boolean containsDomain(CharSequence text, int from, int to) {
+        if (to > from && text.charAt(to - 1) == '.') {
+            to--;
+        }
+        if (to <= from) {
+            return false;
+        }
+        long hash = FNV_OFFSET;
+        for (int i = to - 1; i >= from; i--) {
+            char c = text.charAt(i);
+            // text[i + 1, to) 是一个完整的上级域名
+            if (c == '.' && i + 1 < to && containsFingerprint(finish(hash))) {
+                return true;
+            }
+            hash = step(hash, c);
+        }
+        return containsFingerprint(finish(hash));
+    }
+
+    private boolean containsFingerprint(long fingerprint) {
+        int slot = (int) fingerprint & mask;
+        while (true) {
+            long value = slots.getLong(slot << 3);
+            if (value == fingerprint) {
+                return true;
+            }
+            if (value == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * 计算 text[from, to) 的域名指纹，从末尾向前计算，与查找时的顺序一致
+     *
+     * @return 非0的指纹
+     */
+    static long fingerprint(CharSequence text, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = to - 1; i >= from; i--) {
+            hash = step(hash, text.charAt(i));
+        }
+        return finish(hash);
+    }
+
+    /**
+     * FNV-1a，ASCII 大写字母按小写处理，非 ASCII 字符按完整的 16 位参与计算
+     */
+    private static long step(long hash, char c) {
+        if (c >= 'A' && c <= 'Z') {
+            c += 'a' - 'A';
+        }
+        return (hash ^ c) * FNV_PRIME;
+    }
+
+    /**
+     * 打散 FNV 的结果，使低位可以直接作为槽位下标；0 保留给空槽位
+     */
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
@@ -0,0 +1,168 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 邮箱域名黑名单文件生成工具
+ * 读取域名列表（UTF-8 编码，每行一个域名，例如常见的一次性邮箱域名列表），生成 {@link EmailDomainBlocklist} 使用的文件。
+ * 每行首尾的空白、开头的 "*." 或 "."、末尾的 "." 被去掉，空行和以 # 开头的行被忽略
+ *
+ * <p>用法：</p>
+ * <pre>
+ * java -cp validation-lib.jar utils.EmailDomainBlocklistBuilder 输入文件 输出文件
+ * </pre>
+ *
+ * <p>生成过程在内存中建表，每个域名约需 24 字节堆内存；生成的文件在运行时只做内存映射，不占用堆内存</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：EmailDomainBlocklistBuilder
+ * @Date：2026/10/18 23:10
+ * @Filename：EmailDomainBlocklistBuilder
+ */
+public final class EmailDomainBlocklistBuilder {
+
+    private EmailDomainBlocklistBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("用法: java utils.EmailDomainBlocklistBuilder <输入文件> <输出文件>");
+            System.exit(2);
+            return;
+        }
+        long count = build(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("已写入 " + count + " 个域名: " + args[1]);
+    }
+
+    /**
+     * 生成黑名单文件
+     *
+     * @param input  输入文件，每行一个域名
+     * @param output 输出文件，已存在时覆盖
+     * @return 去重后的域名数
+     * @throws IOException 读写失败，或域名数超过上限
+     */
+    public static long build(Path input, Path output) throws IOException {
+        long[] fingerprints = new long[1024];
+        int length = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long fingerprint = fingerprintLine(line);
+                if (fingerprint == 0) {
+                    continue;
+                }
+                if (length == fingerprints.length) {
+                    if (length >= EmailDomainBlocklist.MAX_SLOTS / 2) {
+                        throw new IOException("域名数超过上限 " + EmailDomainBlocklist.MAX_SLOTS / 2);
+                    }
+                    fingerprints = Arrays.copyOf(fingerprints, length * 2);
+                }
+                fingerprints[length++] = fingerprint;
+            }
+        }
+        return write(table(fingerprints, length), output);
+    }
+
+    /**
+     * 计算一行输入的域名指纹
+     *
+     * @return 指纹，空行或注释行为0
+     */
+    static long fingerprintLine(String line) {
+        int from = 0;
+        int to = line.length();
+        while (from < to && Character.isWhitespace(line.charAt(from))) {
+            from++;
+        }
+        while (to > from && Character.isWhitespace(line.charAt(to - 1))) {
+            to--;
+        }
+        if (from < to && line.charAt(from) == '#') {
+            return 0;
+        }
+        if (to - from >= 2 && line.charAt(from) == '*' && line.charAt(from + 1) == '.') {
+            from += 2;
+        } else if (from < to && line.charAt(from) == '.') {
+            from++;
+        }
+        if (to > from && line.charAt(to - 1) == '.') {
+            to--;
+        }
+        return from < to ? EmailDomainBlocklist.fingerprint(line, from, to) : 0;
+    }
+
+    /**
+     * 把指纹插入开放寻址哈希表，重复的指纹只保留一个
+     *
+     * @param fingerprints 非0的指纹
+     * @param length       指纹个数
+     * @return 槽位数组，槽位数为 2 的幂且至少为指纹数的 2 倍
+     */
+    static long[] table(long[] fingerprints, int length) {
+        int slotCount = 2;
+        while (slotCount < (long) length * 2) {
+            slotCount <<= 1;
+        }
+        if (slotCount > EmailDomainBlocklist.MAX_SLOTS) {
+            throw new IllegalArgumentException("域名数超过上限 " + EmailDomainBlocklist.MAX_SLOTS / 2);
+        }
+        long[] table = new long[slotCount];
+        int mask = slotCount - 1;
+        for (int i = 0; i < length; i++) {
+            long fingerprint = fingerprints[i];
+            int slot = (int) fingerprint & mask;
+            while (table[slot] != 0 && table[slot] != fingerprint) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = fingerprint;
+        }
+        return table;
+    }
+
+    private static long write(long[] table, Path output) throws IOException {
+        long count = 0;
+        for (long slot : table) {
+            if (slot != 0) {
+                count++;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+            buffer.putInt(EmailDomainBlocklist.MAGIC)
+                    .putInt(EmailDomainBlocklist.VERSION)
+                    .putLong(count)
+                    .putInt(table.length)
+                    .putInt(0)
+                    .putLong(0);
+            for (long slot : table) {
+                if (buffer.remaining() < 8) {
+                    flush(channel, buffer);
+                }
+                buffer.putLong(slot);
+            }
+            flush(channel, buffer);
+        }
+        return count;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
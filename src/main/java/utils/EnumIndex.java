@@ -0,0 +1,226 @@
+package utils;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 枚举常量索引
+ * 每个枚举类只在首次使用时建立一次名称索引，之后按名称、序号或自定义编码查找均为常数时间（编码为整数时为对数时间），
+ * 不再像 getEnumConstants() 那样每次克隆常量数组并线性比较
+ * 索引按枚举类缓存在 ClassValue 中，枚举类被卸载时随之释放；实例不可变（编码索引按需建立后也不再修改），可以在多个线程间共享
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：EnumIndex
+ * @Date：2026/10/18 20:10
+ * @Filename：EnumIndex
+ */
+public final class EnumIndex {
+
+    /**
+     * 按枚举类缓存的索引
+     */
+    private static final ClassValue<EnumIndex> INDEXES = new ClassValue<EnumIndex>() {
+        @Override
+        protected EnumIndex computeValue(Class<?> type) {
+            return new EnumIndex(type);
+        }
+    };
+
+    private final Class<?> enumClass;
+
+    /**
+     * 枚举常量，下标即序号
+     */
+    private final Object[] constants;
+
+    /**
+     * 名称 -> 枚举常量
+     */
+    private final Map<String, Object> byName;
+
+    /**
+     * 编码访问方法名称 -> 编码索引，按需建立
+     */
+    private final Map<String, Codes> codes = new ConcurrentHashMap<>();
+
+    private EnumIndex(Class<?> enumClass) {
+        this.enumClass = enumClass;
+        Object[] values = enumClass.getEnumConstants();
+        this.constants = values == null ? new Object[0] : values;
+        this.byName = new HashMap<>(constants.length * 2);
+        for (Object constant : constants) {
+            byName.put(((Enum<?>) constant).name(), constant);
+        }
+    }
+
+    /**
+     * 获取枚举类的索引
+     *
+     * @param enumClass 枚举类
+     * @return 已缓存的索引
+     */
+    public static EnumIndex of(Class<? extends Enum<?>> enumClass) {
+        return INDEXES.get(enumClass);
+    }
+
+    /**
+     * @param value 待校验的值
+     * @return 值本身是否为该枚举类的常量
+     */
+    public boolean isConstant(Object value) {
+        return enumClass.isInstance(value);
+    }
+
+    /**
+     * @param name 常量名称
+     * @return 是否存在该名称的常量
+     */
+    public boolean hasName(String name) {
+        return byName.containsKey(name);
+    }
+
+    /**
+     * @param ordinal 序号
+     * @return 是否存在该序号的常量
+     */
+    public boolean hasOrdinal(long ordinal) {
+        return ordinal >= 0 && ordinal < constants.length;
+    }
+
+    /**
+     * @param ordinal 序号，整数类型（Integer、Long、Short、Byte）按数值比较，其他类型不匹配
+     * @return 是否存在该序号的常量
+     */
+    public boolean hasOrdinal(Object ordinal) {
+        return isIntegral(ordinal) && hasOrdinal(((Number) ordinal).longValue());
+    }
+
+    /**
+     * 获取按自定义编码建立的索引
+     *
+     * @param accessor 枚举上返回编码的无参方法名称（例如 getCode）或字段名称（例如 code）
+     * @return 编码索引
+     * @throws IllegalArgumentException 枚举类既没有该名称的无参方法也没有该名称的字段
+     */
+    public Codes codes(String accessor) {
+        Codes index = codes.get(accessor);
+        if (index == null) {
+            index = codes.computeIfAbsent(accessor, this::buildCodes);
+        }
+        return index;
+    }
+
+    /**
+     * 读取每个常量的编码并建立索引，整数编码单独排序以便二分查找
+     */
+    private Codes buildCodes(String accessor) {
+        Member member = findAccessor(accessor);
+        List<Long> integral = new ArrayList<>();
+        Set<Object> others = new HashSet<>();
+        for (Object constant : constants) {
+            Object code;
+            try {
+                code = member instanceof Method ? ((Method) member).invoke(constant) : ((Field) member).get(constant);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("无法读取枚举 " + enumClass.getName() + " 的编码: " + accessor, e);
+            }
+            if (isIntegral(code)) {
+                integral.add(((Number) code).longValue());
+            } else if (code != null) {
+                others.add(code);
+            }
+        }
+        long[] sorted = new long[integral.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = integral.get(i);
+        }
+        Arrays.sort(sorted);
+        return new Codes(sorted, others);
+    }
+
+    /**
+     * 查找编码访问方法，其次查找同名字段
+     */
+    private Member findAccessor(String accessor) {
+        for (Class<?> type = enumClass; type != null && type != Enum.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(accessor) && method.getParameterCount() == 0
+                        && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    return accessible(method);
+                }
+            }
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().equals(accessor) && !Modifier.isStatic(field.getModifiers())) {
+                    return accessible(field);
+                }
+            }
+        }
+        throw new IllegalArgumentException("枚举 " + enumClass.getName() + " 没有名为 " + accessor + " 的编码方法或字段");
+    }
+
+    private static <T extends AccessibleObject & Member> Member accessible(T member) {
+        // 枚举可能声明在非public的类中，编码方法也可能不是public的
+        member.setAccessible(true);
+        return member;
+    }
+
+    /**
+     * 整数编码统一按 long 比较，字段类型与编码类型（int/long/short/byte）不同时仍能匹配
+     */
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * 按自定义编码建立的索引
+     */
+    public static final class Codes {
+
+        /**
+         * 排序后的整数编码
+         */
+        private final long[] integral;
+
+        /**
+         * 其他类型的编码（例如字符串），按 equals 比较
+         */
+        private final Set<Object> others;
+
+        private Codes(long[] integral, Set<Object> others) {
+            this.integral = integral;
+            this.others = others;
+        }
+
+        /**
+         * @param code 整数编码
+         * @return 是否存在该编码的常量
+         */
+        public boolean contains(long code) {
+            return Arrays.binarySearch(integral, code) >= 0;
+        }
+
+        /**
+         * @param code 编码，整数类型按数值比较，其他类型按 equals 比较
+         * @return 是否存在该编码的常量
+         */
+        public boolean contains(Object code) {
+            if (isIntegral(code)) {
+                return contains(((Number) code).longValue());
+            }
+            return code != null && others.contains(code);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package utils;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 
 /**
  * 字段校验工具类
@@ -17,38 +17,341 @@ import java.time.format.DateTimeFormatter;
  */
 public class FieldValidator {
 
+    /**
+     * {@link #isValidUrl} 允许的协议前缀
+     */
+    private static final String[] URL_PREFIXES = {"https://", "http://", "ftp://"};
+
     /**
      * 邮箱校验
+     * 等价于正则 ^[A-Za-z0-9+_.-]+@(.+)$ ，单次遍历、不创建任何对象
      *
      * @param email 邮箱地址
      * @return 是否为有效邮箱格式
      */
     public static boolean isValidEmail(String email) {
-        return email != null && email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+        return isValidEmail((CharSequence) email);
+    }
+
+    /**
+     * 邮箱校验，与 {@link #isValidEmail(String)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param email 邮箱地址
+     * @return 是否为有效邮箱格式
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        // 本地部分：至少一个 [A-Za-z0-9+_.-] 字符，遇到第一个其他字符时必须是 @
+        int at = 0;
+        while (at < length && isEmailLocalChar(email.charAt(at))) {
+            at++;
+        }
+        // 域名部分：至少一个字符，且不能包含行终止符（正则中的 . ）
+        if (at == 0 || at + 1 >= length || email.charAt(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 邮箱校验，校验字符数组中的一段，不复制
+     *
+     * @param chars  字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @return 是否为有效邮箱格式
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidEmail(char[] chars, int offset, int length) {
+        return chars != null && isValidEmail(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * 邮箱校验，直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 结果与把这段字节解码为字符串后调用 {@link #isValidEmail(String)} 相同
+     *
+     * @param utf8   缓冲区
+     * @param offset 起始位置（绝对下标）
+     * @param length 字节数
+     * @return 是否为有效邮箱格式
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidEmail(ByteBuffer utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        checkRange(utf8.limit(), offset, length);
+        int end = offset + length;
+        int at = offset;
+        // 非 ASCII 字节转换为 char 后不在本地部分的字符集合中
+        while (at < end && isEmailLocalChar((char) utf8.get(at))) {
+            at++;
+        }
+        if (at == offset || at + 1 >= end || utf8.get(at) != '@') {
+            return false;
+        }
+        for (int i = at + 1; i < end; i++) {
+            if (isUtf8LineTerminator(utf8, i, end)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * 手机号校验（中国大陆）
+     * 等价于正则 ^1[3-9]\d{9}$ ：11位数字，以1开头，第二位为3-9
      *
      * @param phone 手机号码
      * @return 是否为有效的中国大陆手机号
      */
     public static boolean isValidPhone(String phone) {
-        return phone != null && phone.matches("^1[3-9]\\d{9}$");
+        return isValidPhone((CharSequence) phone);
+    }
+
+    /**
+     * 手机号校验（中国大陆），与 {@link #isValidPhone(String)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param phone 手机号码
+     * @return 是否为有效的中国大陆手机号
+     */
+    public static boolean isValidPhone(CharSequence phone) {
+        return phone != null
+                && phone.length() == 11
+                && phone.charAt(0) == '1'
+                && phone.charAt(1) >= '3' && phone.charAt(1) <= '9'
+                && isAsciiDigits(phone, 2, 11);
+    }
+
+    /**
+     * 手机号校验（中国大陆），校验字符数组中的一段，不复制
+     *
+     * @param chars  字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @return 是否为有效的中国大陆手机号
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidPhone(char[] chars, int offset, int length) {
+        return chars != null && isValidPhone(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * 手机号校验（中国大陆），直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 号码只由 ASCII 字符组成，每个字节即一个字符
+     *
+     * @param utf8   缓冲区
+     * @param offset 起始位置（绝对下标）
+     * @param length 字节数
+     * @return 是否为有效的中国大陆手机号
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidPhone(ByteBuffer utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        checkRange(utf8.limit(), offset, length);
+        return length == 11
+                && utf8.get(offset) == '1'
+                && utf8.get(offset + 1) >= '3' && utf8.get(offset + 1) <= '9'
+                && isAsciiDigits(utf8, offset + 2, offset + 11);
+    }
+
+    /**
+     * 手机号校验（中国大陆），按号段检查运营商
+     * carriers 为0时与 {@link #isValidPhone(String)} 相同；否则号码必须属于 {@link PhoneSegments#current()} 中已分配的号段，
+     * 且号段的运营商在 carriers 中
+     *
+     * @param phone    手机号码
+     * @param carriers 允许的运营商位掩码（{@link PhoneCarrier#mask}），0 表示不检查号段
+     * @return 是否为有效的中国大陆手机号
+     */
+    public static boolean isValidPhone(String phone, int carriers) {
+        if (carriers == 0) {
+            return isValidPhone(phone);
+        }
+        return PhoneSegments.current().matches(phone, carriers);
     }
 
     /**
      * 身份证号码校验（15位/18位）
+     * 等价于正则 (^\d{15}$)|(^\d{17}([0-9Xx])$) ：15位数字，或17位数字加一位数字/X/x校验码
      *
      * @param idCard 身份证号码
      * @return 是否为有效的身份证号码格式
      */
     public static boolean isValidIdCard(String idCard) {
-        return idCard != null && idCard.matches("(^\\d{15}$)|(^\\d{17}([0-9Xx])$)");
+        return isValidIdCard((CharSequence) idCard);
+    }
+
+    /**
+     * 身份证号码格式校验（15位/18位），与 {@link #isValidIdCard(String)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param idCard 身份证号码
+     * @return 是否为有效的身份证号码格式
+     */
+    public static boolean isValidIdCard(CharSequence idCard) {
+        if (idCard == null) {
+            return false;
+        }
+        int length = idCard.length();
+        if (length == 15) {
+            return isAsciiDigits(idCard, 0, 15);
+        }
+        if (length == 18) {
+            char check = idCard.charAt(17);
+            return isAsciiDigits(idCard, 0, 17) && (isAsciiDigit(check) || check == 'X' || check == 'x');
+        }
+        return false;
+    }
+
+    /**
+     * 身份证号码格式校验（15位/18位），校验字符数组中的一段，不复制
+     *
+     * @param chars  字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @return 是否为有效的身份证号码格式
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidIdCard(char[] chars, int offset, int length) {
+        return chars != null && isValidIdCard(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * 身份证号码格式校验（15位/18位），直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 号码只由 ASCII 字符组成，每个字节即一个字符
+     *
+     * @param utf8   缓冲区
+     * @param offset 起始位置（绝对下标）
+     * @param length 字节数
+     * @return 是否为有效的身份证号码格式
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidIdCard(ByteBuffer utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        checkRange(utf8.limit(), offset, length);
+        if (length == 15) {
+            return isAsciiDigits(utf8, offset, offset + 15);
+        }
+        if (length == 18) {
+            byte check = utf8.get(offset + 17);
+            return isAsciiDigits(utf8, offset, offset + 17) && ((check >= '0' && check <= '9') || check == 'X' || check == 'x');
+        }
+        return false;
+    }
+
+    /**
+     * 身份证号码校验，strict 为 false 时与 {@link #isValidIdCard(String)} 相同
+     * 严格模式按 GB 11643 检查：地址码必须在 {@link IdCardRegions#defaults()} 中，
+     * 出生日期必须是 1800 年以后、不晚于当天（东八区）的有效日期，18位号码的校验码必须正确（末位 x 与 X 等价）；
+     * 15位号码没有校验码，出生年份按 19xx 计算。单次遍历、不创建任何对象
+     *
+     * @param idCard 身份证号码
+     * @param strict 是否严格校验
+     * @return 是否为有效的身份证号码
+     */
+    public static boolean isValidIdCard(String idCard, boolean strict) {
+        if (!strict) {
+            return isValidIdCard(idCard);
+        }
+        if (idCard == null) {
+            return false;
+        }
+        int length = idCard.length();
+        if (length != 15 && length != 18) {
+            return false;
+        }
+        boolean full = length == 18;
+        // 本体码：6位地址码、8位（15位号码为6位）出生日期码、3位顺序码
+        int bodyLength = full ? 17 : 15;
+        int birthEnd = full ? 14 : 12;
+        int region = 0;
+        int birth = 0;
+        int sum = 0;
+        for (int i = 0; i < bodyLength; i++) {
+            int digit = idCard.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            if (i < 6) {
+                region = region * 10 + digit;
+            } else if (i < birthEnd) {
+                birth = birth * 10 + digit;
+            }
+            sum += digit * ID_CARD_WEIGHTS[i];
+        }
+        if (full) {
+            char check = idCard.charAt(17);
+            char expected = ID_CARD_CHECK_CODES.charAt(sum % 11);
+            if (check != expected && !(expected == 'X' && check == 'x')) {
+                return false;
+            }
+        } else {
+            birth += 19_000_000;
+        }
+        return isValidBirthDate(birth) && IdCardRegions.defaults().contains(region);
+    }
+
+    /**
+     * 身份证本体码各位的加权因子 2^(17-i) mod 11（GB 11643 第 7 章）
+     */
+    private static final int[] ID_CARD_WEIGHTS = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
+    /**
+     * 加权和 mod 11 -> 校验码
+     */
+    private static final String ID_CARD_CHECK_CODES = "10X98765432";
+
+    private static final long CHINA_OFFSET_MILLIS = 8 * 3600_000L;
+
+    /**
+     * @param birth yyyyMMdd 形式的出生日期
+     * @return 是否为 1800 年以后、不晚于当天（东八区）的有效日期
+     */
+    private static boolean isValidBirthDate(int birth) {
+        int year = birth / 10_000;
+        int month = birth / 100 % 100;
+        int day = birth % 100;
+        return year >= 1800
+                && month >= 1 && month <= 12
+                && day >= 1 && day <= monthLength(year, month)
+                && birth <= todayInChina();
+    }
+
+    /**
+     * 东八区的当天日期，按公历推算而不使用 java.time，不创建任何对象
+     *
+     * @return yyyyMMdd 形式的日期
+     */
+    private static int todayInChina() {
+        long days = Math.floorDiv(System.currentTimeMillis() + CHINA_OFFSET_MILLIS, 86_400_000L);
+        // 以 0000-03-01 为起点，每 400 年（146097 天）为一个周期
+        days += 719_468;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (int) (year * 10_000 + month * 100 + day);
     }
 
     /**
      * 金额范围校验
+     * 每次调用都会把边界转换为 BigDecimal，频繁校验同一约束时应使用 {@link PriceConstraint#compile} 编译一次后复用
      *
      * @param price 金额
      * @param min   最小值
@@ -63,6 +366,69 @@ public class FieldValidator {
                 && price.compareTo(BigDecimal.valueOf(max)) <= 0;
     }
 
+    /**
+     * 金额范围校验（int、long 类型字段，不装箱）
+     * 结果与把金额转换为 BigDecimal 后调用 {@link #isValidPrice(BigDecimal, double, double)} 一致，
+     * 边界为 NaN 时返回false
+     *
+     * @param price 金额
+     * @param min   最小值
+     * @param max   最大值
+     * @return 是否在指定范围内
+     */
+    public static boolean isValidPrice(long price, double min, double max) {
+        return isAtLeast(price, min) && isAtMost(price, max);
+    }
+
+    /**
+     * 金额范围校验（double 类型字段，不装箱）
+     * double 的十进制表示（BigDecimal.valueOf）与 double 本身的大小顺序一致，因此直接比较 double
+     * 与转换为 BigDecimal 后比较的结果相同；金额或边界为 NaN 时返回false
+     *
+     * @param price 金额
+     * @param min   最小值
+     * @param max   最大值
+     * @return 是否在指定范围内
+     */
+    public static boolean isValidPrice(double price, double min, double max) {
+        return price >= min && price <= max;
+    }
+
+    /**
+     * 判断整数是否不小于边界的十进制表示（BigDecimal.valueOf(bound)）
+     */
+    private static boolean isAtLeast(long value, double bound) {
+        if (Double.isNaN(bound)) {
+            return false;
+        }
+        if (Math.abs(bound) < 0x1p53) {
+            // 该范围内整数 double 的十进制表示就是其本身，非整数 double 的十进制表示与其位于同两个相邻整数之间，
+            // 因此向上取整后与十进制边界等价
+            return value >= (long) Math.ceil(bound);
+        }
+        if (Double.isInfinite(bound)) {
+            return bound < 0;
+        }
+        // 绝对值超过 2^53 的边界的十进制表示可能与二进制值不同，按十进制精确比较
+        return BigDecimal.valueOf(value).compareTo(BigDecimal.valueOf(bound)) >= 0;
+    }
+
+    /**
+     * 判断整数是否不大于边界的十进制表示（BigDecimal.valueOf(bound)）
+     */
+    private static boolean isAtMost(long value, double bound) {
+        if (Double.isNaN(bound)) {
+            return false;
+        }
+        if (Math.abs(bound) < 0x1p53) {
+            return value <= (long) Math.floor(bound);
+        }
+        if (Double.isInfinite(bound)) {
+            return bound > 0;
+        }
+        return BigDecimal.valueOf(value).compareTo(BigDecimal.valueOf(bound)) <= 0;
+    }
+
     /**
      * 数量范围校验
      *
@@ -78,18 +444,84 @@ public class FieldValidator {
         return qty >= min && qty <= max;
     }
 
+    /**
+     * 数量范围校验（int 类型字段，不装箱）
+     *
+     * @param qty 数量
+     * @param min 最小值
+     * @param max 最大值
+     * @return 是否在指定范围内
+     */
+    public static boolean isValidQuantity(int qty, int min, int max) {
+        return qty >= min && qty <= max;
+    }
+
+    /**
+     * 数量范围校验（long 类型字段，不装箱）
+     *
+     * @param qty 数量
+     * @param min 最小值
+     * @param max 最大值
+     * @return 是否在指定范围内
+     */
+    public static boolean isValidQuantity(long qty, int min, int max) {
+        return qty >= min && qty <= max;
+    }
+
     /**
      * 邮政编码校验（6位数字）
+     * 等价于正则 ^\d{6}$
      *
      * @param code 邮政编码
      * @return 是否为有效的6位数字邮政编码
      */
     public static boolean isValidPostalCode(String code) {
-        return code != null && code.matches("^\\d{6}$");
+        return isValidPostalCode((CharSequence) code);
+    }
+
+    /**
+     * 邮政编码校验，与 {@link #isValidPostalCode(String)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param code 邮政编码
+     * @return 是否为有效的6位数字邮政编码
+     */
+    public static boolean isValidPostalCode(CharSequence code) {
+        return code != null && code.length() == 6 && isAsciiDigits(code, 0, 6);
+    }
+
+    /**
+     * 邮政编码校验，校验字符数组中的一段，不复制
+     *
+     * @param chars  字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @return 是否为有效的6位数字邮政编码
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidPostalCode(char[] chars, int offset, int length) {
+        return chars != null && isValidPostalCode(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * 邮政编码校验，直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     *
+     * @param utf8   缓冲区
+     * @param offset 起始位置（绝对下标）
+     * @param length 字节数
+     * @return 是否为有效的6位数字邮政编码
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidPostalCode(ByteBuffer utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        checkRange(utf8.limit(), offset, length);
+        return length == 6 && isAsciiDigits(utf8, offset, offset + 6);
     }
 
     /**
      * 姓名长度校验
+     * 长度按码点计算，生僻字（如 𠀀）和表情符号等补充平面字符计为1，未配对的代理字符也计为1
      *
      * @param name      姓名
      * @param minLength 最小长度
@@ -97,11 +529,56 @@ public class FieldValidator {
      * @return 是否符合长度要求
      */
     public static boolean isValidName(String name, int minLength, int maxLength) {
-        return name != null && name.length() >= minLength && name.length() <= maxLength;
+        return isValidName((CharSequence) name, minLength, maxLength);
+    }
+
+    /**
+     * 姓名长度校验，与 {@link #isValidName(String, int, int)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param name      姓名
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     */
+    public static boolean isValidName(CharSequence name, int minLength, int maxLength) {
+        return name != null && isCodePointCountBetween(name, minLength, maxLength);
+    }
+
+    /**
+     * 姓名长度校验，校验字符数组中的一段，不复制
+     *
+     * @param chars     字符数组
+     * @param offset    起始下标
+     * @param length    字符数
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidName(char[] chars, int offset, int length, int minLength, int maxLength) {
+        return chars != null && isValidName(CharBuffer.wrap(chars, offset, length), minLength, maxLength);
+    }
+
+    /**
+     * 姓名长度校验，直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 结果与把这段字节解码为字符串后调用 {@link #isValidName(String, int, int)} 相同：
+     * 4字节序列是一个补充平面字符，计为1；不合法的字节序列按解码时替换成的 U+FFFD 计数
+     *
+     * @param utf8      缓冲区
+     * @param offset    起始位置（绝对下标）
+     * @param length    字节数
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidName(ByteBuffer utf8, int offset, int length, int minLength, int maxLength) {
+        return utf8 != null && isCodePointCountBetween(utf8, offset, length, minLength, maxLength);
     }
 
     /**
      * 地址长度校验
+     * 长度按码点计算，规则与 {@link #isValidName(String, int, int)} 相同
      *
      * @param address   地址
      * @param minLength 最小长度
@@ -109,7 +586,50 @@ public class FieldValidator {
      * @return 是否符合长度要求
      */
     public static boolean isValidAddress(String address, int minLength, int maxLength) {
-        return address != null && address.length() >= minLength && address.length() <= maxLength;
+        return isValidAddress((CharSequence) address, minLength, maxLength);
+    }
+
+    /**
+     * 地址长度校验，与 {@link #isValidAddress(String, int, int)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param address   地址
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     */
+    public static boolean isValidAddress(CharSequence address, int minLength, int maxLength) {
+        return address != null && isCodePointCountBetween(address, minLength, maxLength);
+    }
+
+    /**
+     * 地址长度校验，校验字符数组中的一段，不复制
+     *
+     * @param chars     字符数组
+     * @param offset    起始下标
+     * @param length    字符数
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidAddress(char[] chars, int offset, int length, int minLength, int maxLength) {
+        return chars != null && isValidAddress(CharBuffer.wrap(chars, offset, length), minLength, maxLength);
+    }
+
+    /**
+     * 地址长度校验，直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 结果与把这段字节解码为字符串后调用 {@link #isValidAddress(String, int, int)} 相同
+     *
+     * @param utf8      缓冲区
+     * @param offset    起始位置（绝对下标）
+     * @param length    字节数
+     * @param minLength 最小长度
+     * @param maxLength 最大长度
+     * @return 是否符合长度要求
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidAddress(ByteBuffer utf8, int offset, int length, int minLength, int maxLength) {
+        return utf8 != null && isCodePointCountBetween(utf8, offset, length, minLength, maxLength);
     }
 
     /**
@@ -124,22 +644,47 @@ public class FieldValidator {
         if (value == null) {
             return false;
         }
-        // 使用BigDecimal的precision和scale进行校验
-        // 获取整数部分位数
-        BigDecimal stripped = value.stripTrailingZeros();
-        int integerDigits = stripped.precision() - stripped.scale();
-        if (integerDigits < 0) {
-            integerDigits = 0; // 处理纯小数情况
+        // 与去掉末尾0之后的 precision/scale 语义一致：0 视为1位整数、0位小数
+        if (value.signum() == 0) {
+            return 1 <= integerPart && 0 <= fractionPart;
+        }
+        // 整数部分位数 = precision - scale，去掉末尾0时两者同步减少，因此无需真正去掉末尾0
+        int integerDigits = Math.max(value.precision() - value.scale(), 0);
+        if (integerDigits > integerPart) {
+            return false;
+        }
+        // 小数位数不超过限制时，去掉末尾0后更不会超过，绝大多数值在这里返回且不创建任何对象
+        if (Math.max(value.scale(), 0) <= fractionPart) {
+            return true;
         }
+        // 小数位数超出限制时，只有末尾0足够多才可能合法，此时才需要去掉末尾0
+        return Math.max(value.stripTrailingZeros().scale(), 0) <= fractionPart;
+    }
 
-        // 获取小数部分位数
-        int fractionDigits = Math.max(stripped.scale(), 0);
+    /**
+     * 标准日期格式，使用手写解析器快速校验
+     */
+    static final String STANDARD_DATE = "yyyy-MM-dd";
 
-        return integerDigits <= integerPart && fractionDigits <= fractionPart;
-    }
+    /**
+     * 标准日期时间格式，使用手写解析器快速校验
+     */
+    static final String STANDARD_DATE_TIME = "yyyy-MM-dd HH:mm:ss";
+
+    /**
+     * 标准格式快速解析的结果：不是合法的日期时间
+     */
+    static final long PACKED_INVALID = -1L;
+
+    /**
+     * 标准格式快速解析的结果：形如 +12025-06-15 的扩展年份，需要交由 java.time 解析
+     */
+    static final long PACKED_UNKNOWN = -2L;
 
     /**
      * 日期时间格式 + 范围校验
+     * 标准格式 yyyy-MM-dd 和 yyyy-MM-dd HH:mm:ss 使用手写解析器，不创建任何对象；
+     * 其他格式每次调用都会重新编译格式和边界，频繁校验同一约束时应使用 {@link DateTimeConstraint#compile} 编译一次后复用
      *
      * @param dateTime 日期时间字符串
      * @param pattern  日期时间格式
@@ -152,63 +697,212 @@ public class FieldValidator {
         if (dateTime == null || pattern == null) {
             return false;
         }
-
-        try {
-            // 创建日期时间格式化器
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-            // 解析输入的日期时间
-            LocalDateTime dt = parseDateTime(dateTime, pattern, formatter);
-            // 校验最小日期时间范围
-            if (min != null && !min.isEmpty()) {
-                LocalDateTime minDt = parseDateTime(min, pattern, formatter);
-                if (dt.isBefore(minDt)) {
-                    return false;
-                }
+        boolean hasTime = STANDARD_DATE_TIME.equals(pattern);
+        if (hasTime || STANDARD_DATE.equals(pattern)) {
+            long value = parseStandardDateTime(dateTime, hasTime);
+            long lower = min == null || min.isEmpty() ? Long.MIN_VALUE : parseStandardDateTime(min, hasTime);
+            long upper = max == null || max.isEmpty() ? Long.MAX_VALUE : parseStandardDateTime(max, hasTime);
+            if (value != PACKED_UNKNOWN && lower != PACKED_UNKNOWN && upper != PACKED_UNKNOWN) {
+                // 边界无法解析时与 java.time 实现一致，任何值都校验失败
+                return value != PACKED_INVALID && lower != PACKED_INVALID && upper != PACKED_INVALID
+                        && value >= lower && value <= upper;
             }
-            // 校验最大日期时间范围
-            if (max != null && !max.isEmpty()) {
-                LocalDateTime maxDt = parseDateTime(max, pattern, formatter);
-                if (dt.isAfter(maxDt)) {
-                    return false;
+        }
+        return DateTimeConstraint.compile(pattern, min, max).isValid(dateTime);
+    }
+
+    /**
+     * 按标准格式 yyyy-MM-dd 或 yyyy-MM-dd HH:mm:ss 解析日期时间，并打包为可直接比较大小的long值
+     * 解析结果与 DateTimeFormatter.ofPattern 的默认（SMART）解析完全一致：
+     * 月份必须在1-12之间、日期必须在1-31之间，超出当月天数的29-31日按当月最后一天处理（例如平年的02-30视为02-28），
+     * 24:00:00 视为次日零点，年份0000不合法
+     *
+     * @param text    日期时间字符串
+     * @param hasTime 是否为包含时间部分的 yyyy-MM-dd HH:mm:ss 格式
+     * @return 打包后的日期时间；不合法时返回 PACKED_INVALID，为扩展年份时返回 PACKED_UNKNOWN
+     */
+    static long parseStandardDateTime(String text, boolean hasTime) {
+        int expected = hasTime ? 19 : 10;
+        if (text.length() != expected) {
+            // yyyy 只有在带 + 号时才允许超过4位
+            return text.length() > expected && text.charAt(0) == '+' ? PACKED_UNKNOWN : PACKED_INVALID;
+        }
+        int high = twoDigits(text, 0);
+        int low = twoDigits(text, 2);
+        int month = twoDigits(text, 5);
+        int day = twoDigits(text, 8);
+        if (high < 0 || low < 0 || month < 0 || day < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return PACKED_INVALID;
+        }
+        int year = high * 100 + low;
+        if (year == 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return PACKED_INVALID;
+        }
+        day = Math.min(day, monthLength(year, month));
+        if (!hasTime) {
+            return packDateTime(year, month, day, 0, 0, 0);
+        }
+
+        int hour = twoDigits(text, 11);
+        int minute = twoDigits(text, 14);
+        int second = twoDigits(text, 17);
+        if (hour < 0 || minute < 0 || second < 0
+                || text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':'
+                || minute > 59 || second > 59) {
+            return PACKED_INVALID;
+        }
+        if (hour == 24 && minute == 0 && second == 0) {
+            // 24:00:00 视为次日零点
+            hour = 0;
+            if (++day > monthLength(year, month)) {
+                day = 1;
+                if (++month > 12) {
+                    month = 1;
+                    year++;
                 }
             }
-            // 所有校验通过
-            return true;
-        } catch (Exception e) {
-            // 解析或比较过程中出现异常，返回false
-            return false;
+        } else if (hour > 23) {
+            return PACKED_INVALID;
         }
+        return packDateTime(year, month, day, hour, minute, second);
     }
 
     /**
-     * 根据模式解析日期时间字符串
+     * 将日期时间各部分打包为long，打包结果的大小顺序与日期时间的先后顺序一致
+     */
+    static long packDateTime(int year, int month, int day, int hour, int minute, int second) {
+        return ((long) year << 26) | (month << 22) | (day << 17) | (hour << 12) | (minute << 6) | second;
+    }
+
+    /**
+     * 读取两位ASCII数字
      *
-     * @param date      日期时间字符串
-     * @param pattern   日期时间格式模式
-     * @param formatter 格式化器
-     * @return 解析后的LocalDateTime对象
+     * @return 两位数字的值，包含非数字字符时返回-1
      */
-    private static LocalDateTime parseDateTime(String date, String pattern, DateTimeFormatter formatter) {
-        // 更准确地判断是否包含时间部分
-        boolean hasTime = pattern.contains("H") || pattern.contains("m") || pattern.contains("s");
+    private static int twoDigits(String text, int at) {
+        int tens = text.charAt(at) - '0';
+        int ones = text.charAt(at + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
 
-        if (hasTime) {
-            // 包含时间部分，解析为LocalDateTime
-            return LocalDateTime.parse(date, formatter);
-        } else {
-            // 不包含时间部分，解析为LocalDate并转换为当天的开始时间
-            return java.time.LocalDate.parse(date, formatter).atStartOfDay();
+    private static int monthLength(int year, int month) {
+        if (month == 2) {
+            boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
         }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
     }
 
     /**
      * URL格式校验
+     * 等价于正则 ^(https?|ftp)://[^\s/$.?#].[^\s]*$ ，单次遍历、不创建任何对象
      *
      * @param url URL字符串
      * @return 是否为有效的URL格式
      */
     public static boolean isValidUrl(String url) {
-        return url != null && url.matches("^(https?|ftp)://[^\\s/$.?#].[^\\s]*$");
+        return isValidUrl((CharSequence) url);
+    }
+
+    /**
+     * URL格式校验，与 {@link #isValidUrl(String)} 相同，适用于 StringBuilder、CharBuffer 等字符序列
+     *
+     * @param url URL字符串
+     * @return 是否为有效的URL格式
+     */
+    public static boolean isValidUrl(CharSequence url) {
+        if (url == null) {
+            return false;
+        }
+        // 协议部分：http、https 或 ftp，后接 ://
+        int pos = urlPrefixLength(url);
+        return pos >= 0 && isValidUrlTail(url, pos);
+    }
+
+    /**
+     * URL 中 :// 之后部分的格式校验，即正则中的 [^\s/$.?#].[^\s]*
+     *
+     * @param url URL字符串
+     * @param pos :// 之后的位置
+     * @return 是否有效
+     */
+    static boolean isValidUrlTail(CharSequence url, int pos) {
+        int length = url.length();
+        // 第一个码点：不能是空白字符及 / $ . ? #
+        if (pos >= length) {
+            return false;
+        }
+        char first = url.charAt(pos);
+        if (isRegexWhitespace(first) || first == '/' || first == '$' || first == '.' || first == '?' || first == '#') {
+            return false;
+        }
+        pos += Character.charCount(Character.codePointAt(url, pos));
+        // 第二个码点：任意非行终止符
+        if (pos >= length || isLineTerminator(url.charAt(pos))) {
+            return false;
+        }
+        // 其余部分：不能包含空白字符
+        for (int i = pos + 1; i < length; i++) {
+            if (isRegexWhitespace(url.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * URL格式校验，校验字符数组中的一段，不复制
+     *
+     * @param chars  字符数组
+     * @param offset 起始下标
+     * @param length 字符数
+     * @return 是否为有效的URL格式
+     * @throws IndexOutOfBoundsException 范围超出数组
+     */
+    public static boolean isValidUrl(char[] chars, int offset, int length) {
+        return chars != null && isValidUrl(CharBuffer.wrap(chars, offset, length));
+    }
+
+    /**
+     * URL格式校验，直接校验缓冲区中 UTF-8 编码的一段，不解码、不修改缓冲区的位置
+     * 结果与把这段字节解码为字符串后调用 {@link #isValidUrl(String)} 相同
+     *
+     * @param utf8   缓冲区
+     * @param offset 起始位置（绝对下标）
+     * @param length 字节数
+     * @return 是否为有效的URL格式
+     * @throws IndexOutOfBoundsException 范围超出缓冲区的 limit
+     */
+    public static boolean isValidUrl(ByteBuffer utf8, int offset, int length) {
+        if (utf8 == null) {
+            return false;
+        }
+        checkRange(utf8.limit(), offset, length);
+        int end = offset + length;
+        int prefix = urlPrefixLength(utf8, offset, end);
+        if (prefix < 0 || offset + prefix >= end) {
+            return false;
+        }
+        int pos = offset + prefix;
+        // 第一个码点：被禁止的字符都是 ASCII，非 ASCII 码点（包括不合法字节解码成的 U+FFFD）一定允许
+        byte first = utf8.get(pos);
+        if (isRegexWhitespace((char) first) || first == '/' || first == '$' || first == '.' || first == '?' || first == '#') {
+            return false;
+        }
+        pos += utf8SequenceLength(utf8, pos, end);
+        if (pos >= end || isUtf8LineTerminator(utf8, pos, end)) {
+            return false;
+        }
+        // 其余部分：空白字符都是 ASCII，多字节序列中的字节都不在 ASCII 范围内
+        for (int i = pos + 1; i < end; i++) {
+            if (isRegexWhitespace((char) utf8.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -226,10 +920,49 @@ public class FieldValidator {
         }
 
         // 校验文件大小
-        if (maxSizeKB > 0 && content.length > maxSizeKB * 1024) {
+        if (content.length > maxFileBytes(maxSizeKB)) {
             return false;
         }
+        return isAllowedFileType(types, mimeType);
+    }
+
+    /**
+     * 文件校验（ByteBuffer、Path、InputStream 等内容来源）
+     * 按客户端提供的MIME类型校验类型；需要按文件头识别类型或反复校验时，应使用预编译的 {@link FileContentConstraint}
+     *
+     * @param content   文件内容，见 {@code engine.FileData#getSource()}；输入流须包装为 {@link LimitedInputStream}
+     * @param maxSizeKB 最大大小(KB)
+     * @param types     允许的MIME类型数组
+     * @param mimeType  文件实际MIME类型
+     * @return 是否符合要求
+     * @see FileContentConstraint#isValid(Object, String)
+     */
+    public static boolean isValidFile(Object content, long maxSizeKB, String[] types, String mimeType) {
+        if (content instanceof byte[]) {
+            return isValidFile((byte[]) content, maxSizeKB, types, mimeType);
+        }
+        return FileContentConstraint.compile(maxSizeKB, types, false).isValid(content, mimeType);
+    }
+
+    /**
+     * 大小上限换算为字节数
+     * 不大于0表示不限制；换算溢出（例如默认值 Long.MAX_VALUE）同样视为不限制
+     */
+    private static long maxFileBytes(long maxSizeKB) {
+        if (maxSizeKB <= 0 || maxSizeKB > Long.MAX_VALUE / 1024) {
+            return Long.MAX_VALUE;
+        }
+        return maxSizeKB * 1024;
+    }
 
+    /**
+     * MIME类型校验
+     *
+     * @param types    允许的MIME类型数组，为空时不限制
+     * @param mimeType 文件实际MIME类型
+     * @return 是否为允许的类型
+     */
+    private static boolean isAllowedFileType(String[] types, String mimeType) {
         // 如果没有指定类型限制，则不校验类型
         if (types == null || types.length == 0) {
             return true;
@@ -252,6 +985,7 @@ public class FieldValidator {
 
     /**
      * 密码复杂度校验
+     * 特殊字符为 {@link PasswordPolicy#DEFAULT_SPECIAL_CHARS}，ASCII 字符按预先生成的查找表分类，不复制字符串
      *
      * @param password         密码
      * @param requireUppercase 是否需要大写字母
@@ -265,71 +999,292 @@ public class FieldValidator {
     public static boolean isValidPassword(String password, boolean requireUppercase, boolean requireLowercase,
                                           boolean requireDigit, boolean requireSpecial,
                                           int minLength, int maxLength) {
-        if (password == null) {
+        return PasswordPolicy.check(password,
+                PasswordPolicy.required(requireUppercase, requireLowercase, requireDigit, requireSpecial),
+                minLength, maxLength, PasswordPolicy.DEFAULT_CLASSES, "");
+    }
+
+    /**
+     * 密码复杂度校验（自定义特殊字符）
+     * 每次调用都会编译一次规则，反复校验同一规则时应使用预编译的 {@link PasswordPolicy}
+     *
+     * @param password         密码
+     * @param requireUppercase 是否需要大写字母
+     * @param requireLowercase 是否需要小写字母
+     * @param requireDigit     是否需要数字
+     * @param requireSpecial   是否需要特殊字符
+     * @param minLength        最小长度
+     * @param maxLength        最大长度
+     * @param specialChars     特殊字符集合
+     * @return 是否符合复杂度要求
+     */
+    public static boolean isValidPassword(String password, boolean requireUppercase, boolean requireLowercase,
+                                          boolean requireDigit, boolean requireSpecial,
+                                          int minLength, int maxLength, String specialChars) {
+        return PasswordPolicy.compile(requireUppercase, requireLowercase, requireDigit, requireSpecial,
+                minLength, maxLength, specialChars).isValid(password);
+    }
+
+    /**
+     * 枚举值校验（按名称匹配）
+     * 值本身就是该枚举类的常量时直接通过，否则按 value.toString() 在缓存的名称索引中查找
+     *
+     * @param value     待校验的值
+     * @param enumClass 枚举类
+     * @return 是否为有效的枚举值
+     */
+    public static boolean isValidEnumValue(Object value, Class<? extends Enum<?>> enumClass) {
+        // 值不能为空
+        if (value == null) {
             return false;
         }
+        EnumIndex index = EnumIndex.of(enumClass);
+        return index.isConstant(value) || index.hasName(value.toString());
+    }
 
-        // 长度校验
-        int length = password.length();
-        if (length < minLength || length > maxLength) {
+    /**
+     * 枚举值校验（按序号匹配）
+     * 值本身就是该枚举类的常量时直接通过，整数类型的值需要在 [0, 常量个数) 范围内，其他类型的值校验失败
+     *
+     * @param value     待校验的值
+     * @param enumClass 枚举类
+     * @return 是否为有效的枚举序号
+     */
+    public static boolean isValidEnumOrdinal(Object value, Class<? extends Enum<?>> enumClass) {
+        if (value == null) {
             return false;
         }
+        EnumIndex index = EnumIndex.of(enumClass);
+        return index.isConstant(value) || index.hasOrdinal(value);
+    }
 
-        boolean hasUppercase = false;
-        boolean hasLowercase = false;
-        boolean hasDigit = false;
-        boolean hasSpecial = false;
-
-        // 一次遍历完成所有字符检查
-        for (char c : password.toCharArray()) {
-            if (Character.isUpperCase(c)) {
-                hasUppercase = true;
-            } else if (Character.isLowerCase(c)) {
-                hasLowercase = true;
-            } else if (Character.isDigit(c)) {
-                hasDigit = true;
-            } else if ("!@#$%^&*(),.?\":{}|<>".indexOf(c) != -1) {
-                hasSpecial = true;
+    /**
+     * 枚举值校验（按序号匹配，基本类型字段不装箱）
+     *
+     * @param ordinal   序号
+     * @param enumClass 枚举类
+     * @return 是否为有效的枚举序号
+     */
+    public static boolean isValidEnumOrdinal(long ordinal, Class<? extends Enum<?>> enumClass) {
+        return EnumIndex.of(enumClass).hasOrdinal(ordinal);
+    }
+
+    /**
+     * 枚举值校验（按自定义编码匹配）
+     * 值本身就是该枚举类的常量时直接通过，否则与各常量的编码比较：整数编码按数值比较，其他编码按 equals 比较
+     *
+     * @param value     待校验的值
+     * @param enumClass 枚举类
+     * @param accessor  枚举上返回编码的无参方法名称（例如 getCode）或字段名称
+     * @return 是否为有效的枚举编码
+     */
+    public static boolean isValidEnumCode(Object value, Class<? extends Enum<?>> enumClass, String accessor) {
+        if (value == null) {
+            return false;
+        }
+        EnumIndex index = EnumIndex.of(enumClass);
+        return index.isConstant(value) || index.codes(accessor).contains(value);
+    }
+
+    /**
+     * 枚举值校验（按整数编码匹配，基本类型字段不装箱）
+     *
+     * @param code      编码
+     * @param enumClass 枚举类
+     * @param accessor  枚举上返回编码的无参方法名称（例如 getCode）或字段名称
+     * @return 是否为有效的枚举编码
+     */
+    public static boolean isValidEnumCode(long code, Class<? extends Enum<?>> enumClass, String accessor) {
+        return EnumIndex.of(enumClass).codes(accessor).contains(code);
+    }
+
+    /**
+     * 判断字符序列指定区间是否全部为ASCII数字（与正则 \d 一致，不包含其他语言的数字字符）
+     *
+     * @param value 字符序列
+     * @param from  起始位置（包含）
+     * @param to    结束位置（不包含）
+     * @return 是否全部为ASCII数字
+     */
+    private static boolean isAsciiDigits(CharSequence value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return false;
             }
         }
+        return true;
+    }
 
-        // 检查是否满足各项要求
-        if (requireUppercase && !hasUppercase) {
-            return false;
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiDigits(ByteBuffer value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = value.get(i);
+            if (b < '0' || b > '9') {
+                return false;
+            }
         }
-        if (requireLowercase && !hasLowercase) {
-            return false;
+        return true;
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("offset=" + offset + ", length=" + length + ", size=" + size);
         }
-        if (requireDigit && !hasDigit) {
-            return false;
+    }
+
+    /**
+     * @return URL 开头的 http://、https:// 或 ftp:// 的长度，都不是时为-1
+     */
+    private static int urlPrefixLength(CharSequence url) {
+        for (String prefix : URL_PREFIXES) {
+            if (url.length() >= prefix.length() && regionMatches(url, prefix)) {
+                return prefix.length();
+            }
         }
-        if (requireSpecial && !hasSpecial) {
-            return false;
+        return -1;
+    }
+
+    private static boolean regionMatches(CharSequence text, String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int urlPrefixLength(ByteBuffer utf8, int offset, int end) {
+        for (String prefix : URL_PREFIXES) {
+            if (end - offset >= prefix.length() && regionMatches(utf8, offset, prefix)) {
+                return prefix.length();
+            }
         }
+        return -1;
+    }
 
+    private static boolean regionMatches(ByteBuffer utf8, int offset, String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (utf8.get(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
         return true;
     }
 
     /**
-     * 枚举值校验
-     *
-     * @param value     待校验的值
-     * @param enumClass 枚举类
-     * @return 是否为有效的枚举值
+     * @return 字符序列的码点数是否在 [min, max] 之间，超过 max 后不再计数
      */
-    public static boolean isValidEnumValue(Object value, Class<? extends Enum<?>> enumClass) {
-        // 值不能为空
-        if (value == null) {
-            return false;
+    private static boolean isCodePointCountBetween(CharSequence text, int min, int max) {
+        int length = text.length();
+        int count = 0;
+        for (int i = 0; i < length; count++) {
+            if (count >= max) {
+                return false;
+            }
+            i += Character.isHighSurrogate(text.charAt(i)) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1)) ? 2 : 1;
         }
-        // 遍历枚举类的所有常量
-        for (Enum<?> e : enumClass.getEnumConstants()) {
-            // 比较名称是否匹配
-            if (e.name().equals(value.toString())) {
-                return true;
+        return count >= min;
+    }
+
+    private static boolean isCodePointCountBetween(ByteBuffer utf8, int offset, int length, int min, int max) {
+        checkRange(utf8.limit(), offset, length);
+        int end = offset + length;
+        int count = 0;
+        for (int i = offset; i < end; count++) {
+            if (count >= max) {
+                return false;
             }
+            i += utf8SequenceLength(utf8, i, end);
+        }
+        return count >= min;
+    }
+
+    /**
+     * 从 i 开始的一个 UTF-8 字符占用的字节数
+     * 不合法或被截断的序列按最长的合法前缀计算（至少1个字节），与 String 解码时替换为一个 U+FFFD 的范围一致；
+     * 与 JDK 的解码器一致，ED 开头的代理码点编码按完整的3字节计算（整体替换为一个 U+FFFD）
+     */
+    private static int utf8SequenceLength(ByteBuffer utf8, int i, int end) {
+        int lead = utf8.get(i) & 0xFF;
+        int size;
+        // 第二个字节的取值范围，排除过长编码和超过 U+10FFFF 的码点
+        int low = 0x80;
+        int high = 0xBF;
+        if (lead < 0x80) {
+            return 1;
+        } else if (lead >= 0xC2 && lead <= 0xDF) {
+            size = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            size = 3;
+            if (lead == 0xE0) {
+                low = 0xA0;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            size = 4;
+            if (lead == 0xF0) {
+                low = 0x90;
+            } else if (lead == 0xF4) {
+                high = 0x8F;
+            }
+        } else {
+            return 1;
+        }
+        for (int k = 1; k < size; k++) {
+            if (i + k >= end) {
+                return k;
+            }
+            int b = utf8.get(i + k) & 0xFF;
+            if (b < low || b > high) {
+                return k;
+            }
+            low = 0x80;
+            high = 0xBF;
+        }
+        return size;
+    }
+
+    /**
+     * 从 i 开始的 UTF-8 字节是否为正则 . 不匹配的行终止符：\n、\r、U+0085（C2 85）、U+2028（E2 80 A8）、U+2029（E2 80 A9）
+     * 这些序列的首字节都不可能是其他序列的后续字节，逐字节查找与解码后查找的结果一致
+     */
+    private static boolean isUtf8LineTerminator(ByteBuffer utf8, int i, int end) {
+        byte b = utf8.get(i);
+        if (b == '\n' || b == '\r') {
+            return true;
+        }
+        if (b == (byte) 0xC2) {
+            return i + 1 < end && utf8.get(i + 1) == (byte) 0x85;
+        }
+        if (b == (byte) 0xE2) {
+            return i + 2 < end && utf8.get(i + 1) == (byte) 0x80
+                    && (utf8.get(i + 2) == (byte) 0xA8 || utf8.get(i + 2) == (byte) 0xA9);
         }
-        // 未找到匹配的枚举值
         return false;
     }
-}
\ No newline at end of file
+
+    /**
+     * 邮箱本地部分允许的字符：[A-Za-z0-9+_.-]
+     */
+    private static boolean isEmailLocalChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c)
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    /**
+     * 正则 \s 匹配的空白字符：[ \t\n\x0B\f\r]
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * 正则 . 不匹配的行终止符
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
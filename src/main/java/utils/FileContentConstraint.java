@@ -0,0 +1,192 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 预编译的文件约束
+ * 大小上限在编译时换算为字节数，允许的MIME类型统一为小写后放入哈希集合，校验时不再逐个 equalsIgnoreCase 比较；
+ * 开启内容识别时，按文件头（见 {@link MimeSniffer}）识别实际类型并与允许的类型比较，不信任客户端提供的MIME类型。
+ * 输入流只预读文件头，大小上限在读取方读取内容时由 {@link LimitedInputStream} 检查
+ * 实例不可变，可以在多个线程间共享
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：FileContentConstraint
+ * @Date：2026/10/18 20:40
+ * @Filename：FileContentConstraint
+ */
+public final class FileContentConstraint {
+
+    /**
+     * 最大字节数，Long.MAX_VALUE 表示不限制
+     */
+    private final long maxBytes;
+
+    /**
+     * 允许的MIME类型（小写），为null时不限制类型
+     */
+    private final Set<String> allowedTypes;
+
+    /**
+     * 允许的类型换算为文件头识别结果后的集合，仅在开启内容识别时不为null
+     */
+    private final Set<String> detectableTypes;
+
+    private FileContentConstraint(long maxBytes, Set<String> allowedTypes, Set<String> detectableTypes) {
+        this.maxBytes = maxBytes;
+        this.allowedTypes = allowedTypes;
+        this.detectableTypes = detectableTypes;
+    }
+
+    /**
+     * 编译文件约束
+     *
+     * @param maxSizeKB         最大大小(KB)，不大于0或换算为字节数时溢出表示不限制
+     * @param allowedTypes      允许的MIME类型数组，为空时不限制类型
+     * @param detectContentType 是否按文件头识别实际类型，而不是使用客户端提供的MIME类型
+     * @return 编译后的约束
+     */
+    public static FileContentConstraint compile(long maxSizeKB, String[] allowedTypes, boolean detectContentType) {
+        long maxBytes = maxSizeKB <= 0 || maxSizeKB > Long.MAX_VALUE / 1024 ? Long.MAX_VALUE : maxSizeKB * 1024;
+        if (allowedTypes == null || allowedTypes.length == 0) {
+            return new FileContentConstraint(maxBytes, null, null);
+        }
+        Set<String> allowed = new HashSet<>();
+        Set<String> detectable = detectContentType ? new HashSet<>() : null;
+        for (String type : allowedTypes) {
+            if (type != null) {
+                String normalized = type.toLowerCase(Locale.ROOT);
+                allowed.add(normalized);
+                if (detectable != null) {
+                    detectable.add(MimeSniffer.canonicalType(normalized));
+                }
+            }
+        }
+        return new FileContentConstraint(maxBytes, allowed, detectable);
+    }
+
+    /**
+     * 校验文件
+     *
+     * @param content  文件内容：byte[]、ByteBuffer、Path 或 {@link LimitedInputStream}，其他类型校验失败
+     * @param mimeType 客户端提供的MIME类型，开启内容识别时不使用
+     * @return 是否符合要求
+     */
+    public boolean isValid(Object content, String mimeType) {
+        if (content instanceof byte[]) {
+            byte[] bytes = (byte[]) content;
+            return bytes.length <= maxBytes && isAllowedType(bytes, 0, bytes.length, mimeType);
+        }
+        if (content instanceof ByteBuffer) {
+            return isValid((ByteBuffer) content, mimeType);
+        }
+        if (content instanceof Path) {
+            return isValid((Path) content, mimeType);
+        }
+        if (content instanceof InputStream) {
+            return isValid((InputStream) content, mimeType);
+        }
+        return false;
+    }
+
+    /**
+     * 文件内容为缓冲区 position 到 limit 之间的字节，不复制内容，也不修改缓冲区的位置
+     */
+    private boolean isValid(ByteBuffer content, String mimeType) {
+        int length = content.remaining();
+        if (length > maxBytes) {
+            return false;
+        }
+        if (detectableTypes == null || content.hasArray()) {
+            return content.hasArray()
+                    ? isAllowedType(content.array(), content.arrayOffset() + content.position(), length, mimeType)
+                    : isAllowedType(null, 0, 0, mimeType);
+        }
+        // 直接缓冲区只取出文件头
+        byte[] head = new byte[Math.min(length, MimeSniffer.HEAD_LENGTH)];
+        for (int i = 0; i < head.length; i++) {
+            head[i] = content.get(content.position() + i);
+        }
+        return isAllowedType(head, 0, head.length, mimeType);
+    }
+
+    /**
+     * 大小取 FileChannel 报告的文件大小，开启内容识别时只读取文件头；文件不存在、不是普通文件或无法读取时校验失败
+     */
+    private boolean isValid(Path content, String mimeType) {
+        if (!Files.isRegularFile(content)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(content, StandardOpenOption.READ)) {
+            if (channel.size() > maxBytes) {
+                return false;
+            }
+            if (detectableTypes == null) {
+                return isAllowedType(null, 0, 0, mimeType);
+            }
+            ByteBuffer head = ByteBuffer.allocate(MimeSniffer.HEAD_LENGTH);
+            while (head.hasRemaining() && channel.read(head) >= 0) {
+                // 读满文件头或到达文件末尾
+            }
+            return isAllowedType(head.array(), 0, head.position(), mimeType);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 输入流不在校验时读到末尾：大小上限交给 {@link LimitedInputStream}，读取方读到的内容超过上限时抛出异常；
+     * 开启内容识别时只预读文件头，读取方仍从内容开头读取。
+     * 没有经过 LimitedInputStream 包装的输入流无法在不消费内容的情况下检查大小，校验失败
+     */
+    private boolean isValid(InputStream content, String mimeType) {
+        if (!(content instanceof LimitedInputStream)) {
+            return false;
+        }
+        LimitedInputStream limited = (LimitedInputStream) content;
+        if (limited.getCount() > maxBytes) {
+            return false;
+        }
+        if (maxBytes != Long.MAX_VALUE) {
+            limited.limit(maxBytes);
+        }
+        if (detectableTypes == null) {
+            return isAllowedType(null, 0, 0, mimeType);
+        }
+        try {
+            byte[] head = limited.peek(MimeSniffer.HEAD_LENGTH);
+            return isAllowedType(head, 0, head == null ? 0 : head.length, mimeType);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 类型校验
+     * 开启内容识别时按文件头识别的类型比较（head 为null表示内容不可读取，校验失败），否则按客户端提供的MIME类型比较
+     */
+    private boolean isAllowedType(byte[] head, int offset, int length, String mimeType) {
+        if (allowedTypes == null) {
+            return true;
+        }
+        if (detectableTypes != null) {
+            String detected = head == null ? null : MimeSniffer.detect(head, offset, length);
+            return detected != null && detectableTypes.contains(detected);
+        }
+        if (mimeType == null) {
+            return false;
+        }
+        // 客户端提供的类型通常已经是小写，先直接查找，避免转换大小写创建字符串
+        return allowedTypes.contains(mimeType) || allowedTypes.contains(mimeType.toLowerCase(Locale.ROOT));
+    }
+}
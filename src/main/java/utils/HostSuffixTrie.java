@@ -0,0 +1,237 @@
+package utils;
+
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 主机名后缀匹配规则，按标签倒序组织为字典树（com -> example -> www）
+ * 规则 example.com 匹配 example.com 本身及其所有子域名，规则 *.example.com 只匹配子域名；
+ * ASCII 字母不区分大小写，国际化域名规则编译时按 IDNA 转换为 ASCII 形式（xn--），查找时的主机名也应为 ASCII 形式；
+ * IP 地址按文本逐段匹配（127.0.0.1 的标签依次为 1、0、0、127），IPv6 地址连同方括号作为一个标签
+ *
+ * <p>树的边保存在一个开放寻址哈希表中，键为父节点编号和标签。查找时从主机名末尾向前逐个标签在原字符串上计算哈希并比较，
+ * 不截取子串、不创建对象。实例不可变，可以在多个线程间共享</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：HostSuffixTrie
+ * @Date：2026/10/18 23:40
+ * @Filename：HostSuffixTrie
+ */
+public final class HostSuffixTrie {
+
+    /**
+     * 规则匹配节点对应的主机名本身
+     */
+    private static final byte MATCH_SELF = 1;
+
+    /**
+     * 规则匹配节点对应主机名的子域名
+     */
+    private static final byte MATCH_SUBDOMAINS = 2;
+
+    /**
+     * 节点编号 -> 匹配标志，0 号节点为根节点
+     */
+    private final byte[] flags;
+
+    /**
+     * 边哈希表：父节点编号、标签（小写）、子节点编号，edgeLabels 为null表示空槽位
+     */
+    private final int[] edgeParents;
+    private final String[] edgeLabels;
+    private final int[] edgeChildren;
+    private final int mask;
+
+    private HostSuffixTrie(byte[] flags, int[] edgeParents, String[] edgeLabels, int[] edgeChildren) {
+        this.flags = flags;
+        this.edgeParents = edgeParents;
+        this.edgeLabels = edgeLabels;
+        this.edgeChildren = edgeChildren;
+        this.mask = edgeLabels.length - 1;
+    }
+
+    /**
+     * 编译主机名规则
+     *
+     * @param patterns 规则，例如 example.com、*.example.com、127.0.0.1；末尾的 . 被忽略
+     * @return 规则树
+     * @throws IllegalArgumentException 规则为空、包含空标签或不是合法的国际化域名
+     */
+    public static HostSuffixTrie compile(String... patterns) {
+        List<Byte> flags = new ArrayList<>();
+        flags.add((byte) 0);
+        List<int[]> edges = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        // "父节点编号/标签" -> 子节点编号
+        Map<String, Integer> children = new HashMap<>();
+        for (String pattern : patterns) {
+            String host = lowerCase(pattern.trim());
+            byte flag = MATCH_SELF | MATCH_SUBDOMAINS;
+            if (host.startsWith("*.")) {
+                host = host.substring(2);
+                flag = MATCH_SUBDOMAINS;
+            }
+            if (!isAscii(host)) {
+                host = lowerCase(IDN.toASCII(host, IDN.ALLOW_UNASSIGNED));
+            }
+            if (host.endsWith(".")) {
+                host = host.substring(0, host.length() - 1);
+            }
+            if (host.isEmpty() || host.startsWith(".") || host.contains("..")) {
+                throw new IllegalArgumentException("主机名规则不正确: " + pattern);
+            }
+            int node = 0;
+            int end = host.length();
+            while (end > 0) {
+                int start = host.lastIndexOf('.', end - 1) + 1;
+                String label = host.substring(start, end);
+                Integer child = children.get(node + "/" + label);
+                if (child == null) {
+                    child = flags.size();
+                    flags.add((byte) 0);
+                    edges.add(new int[]{node, child});
+                    labels.add(label);
+                    children.put(node + "/" + label, child);
+                }
+                node = child;
+                end = start - 1;
+            }
+            flags.set(node, (byte) (flags.get(node) | flag));
+        }
+
+        int slots = 2;
+        while (slots < edges.size() * 2) {
+            slots <<= 1;
+        }
+        int[] edgeParents = new int[slots];
+        String[] edgeLabels = new String[slots];
+        int[] edgeChildren = new int[slots];
+        for (int i = 0; i < edges.size(); i++) {
+            String label = labels.get(i);
+            int parent = edges.get(i)[0];
+            int slot = slot(parent, labelHash(label, 0, label.length()), slots - 1);
+            while (edgeLabels[slot] != null) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            edgeParents[slot] = parent;
+            edgeLabels[slot] = label;
+            edgeChildren[slot] = edges.get(i)[1];
+        }
+        byte[] flagArray = new byte[flags.size()];
+        for (int i = 0; i < flagArray.length; i++) {
+            flagArray[i] = flags.get(i);
+        }
+        return new HostSuffixTrie(flagArray, edgeParents, edgeLabels, edgeChildren);
+    }
+
+    /**
+     * 判断主机名是否匹配任一规则
+     *
+     * @param host 主机名，末尾的 . 被忽略
+     * @return 是否匹配
+     */
+    public boolean matches(CharSequence host) {
+        return host != null && matches(host, 0, host.length());
+    }
+
+    /**
+     * 判断 text[from, to) 表示的主机名是否匹配任一规则
+     *
+     * @param text 包含主机名的文本，例如完整的 URL
+     * @param from 主机名起始位置
+     * @param to   主机名结束位置（不含）
+     * @return 是否匹配
+     */
+    public boolean matches(CharSequence text, int from, int to) {
+        if (to > from && text.charAt(to - 1) == '.') {
+            to--;
+        }
+        int node = 0;
+        int end = to;
+        while (end > from) {
+            int start = end - 1;
+            while (start >= from && text.charAt(start) != '.') {
+                start--;
+            }
+            start++;
+            node = child(node, text, start, end);
+            if (node < 0) {
+                return false;
+            }
+            // start > from 表示左边还有标签，即主机名是当前节点的子域名
+            if ((flags[node] & (start > from ? MATCH_SUBDOMAINS : MATCH_SELF)) != 0) {
+                return true;
+            }
+            end = start - 1;
+        }
+        return false;
+    }
+
+    private int child(int parent, CharSequence text, int start, int end) {
+        int slot = slot(parent, labelHash(text, start, end), mask);
+        while (true) {
+            String label = edgeLabels[slot];
+            if (label == null) {
+                return -1;
+            }
+            if (edgeParents[slot] == parent && labelEquals(label, text, start, end)) {
+                return edgeChildren[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static boolean labelEquals(String label, CharSequence text, int start, int end) {
+        if (label.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < label.length(); i++) {
+            if (label.charAt(i) != lower(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int labelHash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + lower(text.charAt(i));
+        }
+        return hash;
+    }
+
+    private static int slot(int parent, int labelHash, int mask) {
+        int hash = labelHash * 0x9E3779B9 + parent;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * 只转换 ASCII 字母，与查找时的比较方式一致
+     */
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String lowerCase(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            sb.append(lower(value.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
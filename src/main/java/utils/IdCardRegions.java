@@ -0,0 +1,137 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * 身份证号码地址码（6 位行政区划代码）索引
+ * 有效代码保存在 1,000,000 位的位图中（约 122KB），查找只需一次数组访问
+ * 代码表默认取自内置资源 validation/idcard-regions.txt（只包含省级行政区），
+ * 可以通过系统属性 {@value #REGIONS_PROPERTY} 指定完整的 GB/T 2260 代码表文件，系统属性在首次使用时读取
+ *
+ * <p>代码表每行以 2、4 或 6 位数字开头，2 位和 4 位表示该前缀下的所有代码；
+ * 数字之后的内容（例如地名）以及 # 之后的注释被忽略，空行被忽略</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：IdCardRegions
+ * @Date：2026/10/18 22:10
+ * @Filename：IdCardRegions
+ */
+public final class IdCardRegions {
+
+    /**
+     * 指定代码表文件的系统属性
+     */
+    public static final String REGIONS_PROPERTY = "validation.idcard.regions";
+
+    private static final String BUNDLED_RESOURCE = "/validation/idcard-regions.txt";
+
+    private static final int CODES = 1_000_000;
+
+    /**
+     * 有效代码的位图
+     */
+    private final long[] bits;
+
+    private IdCardRegions(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 默认代码表，首次使用时加载
+     */
+    private static volatile IdCardRegions defaults;
+
+    /**
+     * @return 默认代码表
+     * @throws IllegalStateException 代码表无法读取或格式不正确，下次调用时会重新尝试加载
+     */
+    public static IdCardRegions defaults() {
+        IdCardRegions regions = defaults;
+        if (regions == null) {
+            synchronized (IdCardRegions.class) {
+                regions = defaults;
+                if (regions == null) {
+                    regions = loadDefault();
+                    defaults = regions;
+                }
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * @param code 6 位行政区划代码
+     * @return 是否为有效的地址码
+     */
+    public boolean contains(int code) {
+        return code >= 0 && code < CODES && (bits[code >>> 6] & (1L << code)) != 0;
+    }
+
+    /**
+     * 解析代码表
+     *
+     * @param reader 代码表内容
+     * @return 代码索引
+     * @throws IOException 读取失败，或存在格式不正确的行
+     */
+    public static IdCardRegions parse(Reader reader) throws IOException {
+        long[] bits = new long[(CODES + 63) / 64];
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+            int digits = 0;
+            int prefix = 0;
+            while (digits < content.length() && content.charAt(digits) >= '0' && content.charAt(digits) <= '9') {
+                prefix = prefix * 10 + (content.charAt(digits) - '0');
+                digits++;
+            }
+            boolean separated = digits == content.length() || Character.isWhitespace(content.charAt(digits));
+            if ((digits != 2 && digits != 4 && digits != 6) || !separated) {
+                throw new IOException("行政区划代码表第 " + lineNumber + " 行格式不正确: " + line);
+            }
+            // 前缀覆盖的代码区间
+            int span = digits == 2 ? 10_000 : digits == 4 ? 100 : 1;
+            int first = prefix * span;
+            for (int code = first; code < first + span; code++) {
+                bits[code >>> 6] |= 1L << code;
+            }
+        }
+        return new IdCardRegions(bits);
+    }
+
+    private static IdCardRegions loadDefault() {
+        String file = System.getProperty(REGIONS_PROPERTY);
+        try {
+            if (file != null && !file.isEmpty()) {
+                try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+                    return parse(reader);
+                }
+            }
+            InputStream in = IdCardRegions.class.getResourceAsStream(BUNDLED_RESOURCE);
+            if (in == null) {
+                throw new IOException("缺少内置资源 " + BUNDLED_RESOURCE);
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return parse(reader);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("无法加载行政区划代码表: " + (file != null ? file : BUNDLED_RESOURCE), e);
+        }
+    }
+}
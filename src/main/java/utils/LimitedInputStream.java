@@ -0,0 +1,155 @@
+package utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 限制读取字节数的输入流
+ * 校验时不读取整个输入流：大小上限通过 {@link #limit(long)} 设置，读取方读到的字节数超过上限时抛出 {@link IOException}；
+ * 识别内容类型所需的文件头通过 {@link #peek(int)} 预读并暂存，之后的读取仍从内容开头返回，不需要底层流支持 mark/reset。
+ * 暂存的只有文件头，内容不会被复制到堆内存
+ * 实例不是线程安全的
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：LimitedInputStream
+ * @Date：2026/10/19 14:10
+ * @Filename：LimitedInputStream
+ */
+public final class LimitedInputStream extends FilterInputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * 允许读取的最大字节数，Long.MAX_VALUE 表示不限制
+     */
+    private long limit = Long.MAX_VALUE;
+
+    /**
+     * 已经交给读取方的字节数
+     */
+    private long count;
+
+    /**
+     * 预读的文件头，读取时先返回其中尚未读取的部分
+     */
+    private byte[] head = EMPTY;
+
+    private int headPosition;
+
+    public LimitedInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * 设置大小上限，已有更小的上限时保持不变
+     *
+     * @param maxBytes 允许读取的最大字节数
+     */
+    public void limit(long maxBytes) {
+        limit = Math.min(limit, maxBytes);
+    }
+
+    /**
+     * @return 已经交给读取方的字节数，不含预读但尚未读取的文件头
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 预读内容开头的字节，不影响之后的读取
+     *
+     * @param length 需要的字节数
+     * @return 内容开头最多 length 个字节，内容较短时返回全部内容；读取方已经开始读取内容时返回null
+     * @throws IOException 读取底层流失败
+     */
+    public byte[] peek(int length) throws IOException {
+        if (count > 0) {
+            return null;
+        }
+        if (head.length < length) {
+            byte[] grown = Arrays.copyOf(head, length);
+            int n = head.length;
+            int read;
+            while (n < length && (read = in.read(grown, n, length - n)) >= 0) {
+                n += read;
+            }
+            head = n == length ? grown : Arrays.copyOf(grown, n);
+        }
+        return Arrays.copyOf(head, Math.min(length, head.length));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = headPosition < head.length ? head[headPosition++] & 0xFF : in.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int n;
+        if (headPosition < head.length) {
+            n = Math.min(len, head.length - headPosition);
+            System.arraycopy(head, headPosition, b, off, n);
+            headPosition += n;
+        } else {
+            n = in.read(b, off, len);
+        }
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped;
+        if (headPosition < head.length) {
+            skipped = Math.min(Math.max(n, 0), head.length - headPosition);
+            headPosition += (int) skipped;
+        } else {
+            skipped = in.skip(n);
+        }
+        if (skipped > 0) {
+            advance(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return head.length - headPosition + in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        // 不支持 mark/reset，预读文件头不依赖底层流的标记
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("不支持 mark/reset");
+    }
+
+    private void advance(long n) throws IOException {
+        count += n;
+        if (count > limit) {
+            throw new IOException("文件大小超过上限 " + limit + " 字节");
+        }
+    }
+}
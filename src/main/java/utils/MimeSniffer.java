@@ -0,0 +1,193 @@
+package utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 根据文件头（魔数）识别文件的MIME类型
+ * 只读取内容开头的 {@link #HEAD_LENGTH} 个字节，不解析文件结构；
+ * ZIP 格式的容器（OOXML、ODF、EPUB、JAR）统一识别为 application/zip，OLE2 格式的旧版 Office 文档统一识别为 application/x-ole-storage
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：MimeSniffer
+ * @Date：2026/10/18 20:40
+ * @Filename：MimeSniffer
+ */
+public final class MimeSniffer {
+
+    /**
+     * 识别所需的最大文件头长度
+     */
+    public static final int HEAD_LENGTH = 16;
+
+    private static final String ZIP = "application/zip";
+
+    private static final String OLE_STORAGE = "application/x-ole-storage";
+
+    // ---------------------------------------------------------------- 文件头特征
+
+    private static final int[] PNG = {0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+    private static final int[] JPEG = {0xFF, 0xD8, 0xFF};
+    private static final int[] GIF = {'G', 'I', 'F', '8'};
+    private static final int[] RIFF = {'R', 'I', 'F', 'F'};
+    private static final int[] WEBP = {'W', 'E', 'B', 'P'};
+    private static final int[] WAVE = {'W', 'A', 'V', 'E'};
+    private static final int[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final int[] ZIP_PREFIX = {'P', 'K'};
+    private static final int[] OLE2 = {0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1};
+    private static final int[] GZIP = {0x1F, 0x8B};
+    private static final int[] SEVEN_ZIP = {'7', 'z', 0xBC, 0xAF, 0x27, 0x1C};
+    private static final int[] RAR = {'R', 'a', 'r', '!', 0x1A, 0x07};
+    private static final int[] TIFF_LE = {'I', 'I', '*', 0};
+    private static final int[] TIFF_BE = {'M', 'M', 0, '*'};
+    private static final int[] OGG = {'O', 'g', 'g', 'S'};
+    private static final int[] ID3 = {'I', 'D', '3'};
+    private static final int[] FTYP = {'f', 't', 'y', 'p'};
+    private static final int[] BRAND_HEIC = {'h', 'e', 'i', 'c'};
+    private static final int[] BRAND_HEIX = {'h', 'e', 'i', 'x'};
+    private static final int[] BRAND_MIF1 = {'m', 'i', 'f', '1'};
+    private static final int[] BRAND_QT = {'q', 't', ' ', ' '};
+    private static final int[] ICO = {0, 0, 1, 0};
+    private static final int[] BMP = {'B', 'M'};
+
+    /**
+     * 常见别名 -> 识别结果使用的类型名称
+     */
+    private static final Map<String, String> ALIASES = new HashMap<>();
+
+    static {
+        ALIASES.put("image/jpg", "image/jpeg");
+        ALIASES.put("image/pjpeg", "image/jpeg");
+        ALIASES.put("image/x-png", "image/png");
+        ALIASES.put("image/vnd.microsoft.icon", "image/x-icon");
+        ALIASES.put("application/x-pdf", "application/pdf");
+        ALIASES.put("application/x-zip", ZIP);
+        ALIASES.put("application/x-zip-compressed", ZIP);
+        ALIASES.put("application/epub+zip", ZIP);
+        ALIASES.put("application/java-archive", ZIP);
+        ALIASES.put("application/x-gzip", "application/gzip");
+        ALIASES.put("application/x-rar-compressed", "application/vnd.rar");
+        ALIASES.put("application/msword", OLE_STORAGE);
+        ALIASES.put("application/vnd.ms-excel", OLE_STORAGE);
+        ALIASES.put("application/vnd.ms-powerpoint", OLE_STORAGE);
+        ALIASES.put("audio/x-wav", "audio/wav");
+        ALIASES.put("audio/wave", "audio/wav");
+        ALIASES.put("audio/mp3", "audio/mpeg");
+    }
+
+    private MimeSniffer() {
+    }
+
+    /**
+     * 识别文件类型
+     *
+     * @param head   文件内容
+     * @param offset 内容起始位置
+     * @param length 可用字节数，超过 {@link #HEAD_LENGTH} 的部分不会读取
+     * @return 识别出的MIME类型，无法识别时为null
+     */
+    public static String detect(byte[] head, int offset, int length) {
+        int n = Math.min(length, HEAD_LENGTH);
+        if (startsWith(head, offset, n, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(head, offset, n, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, offset, n, GIF) && n >= 6
+                && (head[offset + 4] == '7' || head[offset + 4] == '9') && head[offset + 5] == 'a') {
+            return "image/gif";
+        }
+        if (startsWith(head, offset, n, RIFF) && n >= 12) {
+            if (matches(head, offset + 8, WEBP)) {
+                return "image/webp";
+            }
+            if (matches(head, offset + 8, WAVE)) {
+                return "audio/wav";
+            }
+            return null;
+        }
+        if (startsWith(head, offset, n, PDF)) {
+            return "application/pdf";
+        }
+        if (startsWith(head, offset, n, ZIP_PREFIX) && n >= 4
+                && ((head[offset + 2] == 3 && head[offset + 3] == 4)
+                || (head[offset + 2] == 5 && head[offset + 3] == 6)
+                || (head[offset + 2] == 7 && head[offset + 3] == 8))) {
+            return ZIP;
+        }
+        if (startsWith(head, offset, n, OLE2)) {
+            return OLE_STORAGE;
+        }
+        if (startsWith(head, offset, n, GZIP)) {
+            return "application/gzip";
+        }
+        if (startsWith(head, offset, n, SEVEN_ZIP)) {
+            return "application/x-7z-compressed";
+        }
+        if (startsWith(head, offset, n, RAR)) {
+            return "application/vnd.rar";
+        }
+        if (startsWith(head, offset, n, TIFF_LE) || startsWith(head, offset, n, TIFF_BE)) {
+            return "image/tiff";
+        }
+        if (startsWith(head, offset, n, OGG)) {
+            return "application/ogg";
+        }
+        if (startsWith(head, offset, n, ID3)) {
+            return "audio/mpeg";
+        }
+        if (n >= 12 && matches(head, offset + 4, FTYP)) {
+            // ISO 基础媒体文件格式，按主品牌区分
+            if (matches(head, offset + 8, BRAND_HEIC) || matches(head, offset + 8, BRAND_HEIX)
+                    || matches(head, offset + 8, BRAND_MIF1)) {
+                return "image/heic";
+            }
+            if (matches(head, offset + 8, BRAND_QT)) {
+                return "video/quicktime";
+            }
+            return "video/mp4";
+        }
+        if (startsWith(head, offset, n, ICO)) {
+            return "image/x-icon";
+        }
+        if (startsWith(head, offset, n, BMP)) {
+            return "image/bmp";
+        }
+        return null;
+    }
+
+    /**
+     * 把允许的MIME类型换算为 {@link #detect} 使用的类型名称
+     * 例如 image/jpg 换算为 image/jpeg；docx、xlsx 等 OOXML 类型以及 ODF 类型换算为 application/zip
+     *
+     * @param mimeType 小写的MIME类型
+     * @return 识别结果使用的类型名称
+     */
+    public static String canonicalType(String mimeType) {
+        String alias = ALIASES.get(mimeType);
+        if (alias != null) {
+            return alias;
+        }
+        if (mimeType.startsWith("application/vnd.openxmlformats-officedocument.")
+                || mimeType.startsWith("application/vnd.oasis.opendocument.")) {
+            return ZIP;
+        }
+        return mimeType;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int length, int[] magic) {
+        return length >= magic.length && matches(head, offset, magic);
+    }
+
+    private static boolean matches(byte[] head, int offset, int[] magic) {
+        for (int i = 0; i < magic.length; i++) {
+            if ((head[offset + i] & 0xFF) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,336 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 已泄露密码黑名单
+ * 黑名单文件由 {@link PasswordBlocklistBuilder} 生成，内容为排好序的定长哈希（密码 UTF-8 编码的 SHA-1 的前 8 个字节），
+ * 通过 FileChannel.map 映射到内存，不占用堆内存，数亿条记录也只按需读取用到的磁盘页。
+ * 查找时先检查文件中的分块布隆过滤器（每次检查只读取一个 64 字节的块），绝大多数未泄露的密码在这里即可排除；
+ * 通过过滤器的密码再以插值查找 + 二分查找在有序哈希中确认
+ *
+ * <p>文件格式（大端序）：</p>
+ * <pre>
+ * 0   int   魔数 0x50574246（"PWBF"）
+ * 4   int   版本号 1
+ * 8   long  记录数
+ * 16  int   布隆过滤器块数（每块 64 字节，0 表示没有过滤器）
+ * 20  int   每个哈希在块内设置的位数（1-7）
+ * 24  8字节 保留
+ * 32  布隆过滤器
+ * ... 记录：SHA-1 前 8 个字节组成的 long 与 Long.MIN_VALUE 异或后按有符号顺序升序排列（即按无符号顺序排列原始前缀）
+ * </pre>
+ *
+ * <p>实例不可变，查找只使用绝对位置读取、不修改映射缓冲区的状态，也不创建对象，可以在多个线程间共享。
+ * 文件映射后在进程内一直有效，使用期间不能原地覆盖或截断文件；更新黑名单时应生成新文件并修改配置的路径</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PasswordBlocklist
+ * @Date：2026/10/18 21:40
+ * @Filename：PasswordBlocklist
+ */
+public final class PasswordBlocklist {
+
+    static final int MAGIC = 0x50574246;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int BLOCK_BYTES = 64;
+    static final int MAX_BLOOM_HASHES = 7;
+
+    /**
+     * 每个映射段包含 2^27 条记录（1GB），单个 MappedByteBuffer 不能超过 2GB
+     */
+    private static final int SEGMENT_SHIFT = 27;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /**
+     * 先做几轮插值查找，哈希分布均匀时通常 2-3 轮即可定位；之后退化为二分查找，保证最坏情况
+     */
+    private static final int INTERPOLATION_STEPS = 4;
+
+    /**
+     * 已加载的黑名单，同一文件只映射一次
+     */
+    private static final Map<Path, PasswordBlocklist> OPENED = new ConcurrentHashMap<>();
+
+    /**
+     * 每个线程复用的 SHA-1 计算状态
+     */
+    private static final ThreadLocal<Sha1> SHA1 = new ThreadLocal<Sha1>() {
+        @Override
+        protected Sha1 initialValue() {
+            return new Sha1();
+        }
+    };
+
+    private final long count;
+
+    private final ByteBuffer bloom;
+
+    private final int bloomBlocks;
+
+    private final int bloomHashes;
+
+    private final ByteBuffer[] segments;
+
+    private PasswordBlocklist(long count, ByteBuffer bloom, int bloomBlocks, int bloomHashes, ByteBuffer[] segments) {
+        this.count = count;
+        this.bloom = bloom;
+        this.bloomBlocks = bloomBlocks;
+        this.bloomHashes = bloomHashes;
+        this.segments = segments;
+    }
+
+    /**
+     * 加载黑名单文件，同一文件只映射一次
+     *
+     * @param file 黑名单文件，相对路径按工作目录解析
+     * @return 黑名单
+     * @throws IOException 文件无法读取或格式不正确
+     */
+    public static PasswordBlocklist open(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        PasswordBlocklist blocklist = OPENED.get(key);
+        if (blocklist == null) {
+            PasswordBlocklist loaded = load(key);
+            blocklist = OPENED.putIfAbsent(key, loaded);
+            if (blocklist == null) {
+                blocklist = loaded;
+            }
+        }
+        return blocklist;
+    }
+
+    /**
+     * 按注解中配置的路径加载黑名单文件，供校验器和生成的校验类在初始化时调用
+     *
+     * @param path 黑名单文件路径，相对路径按工作目录解析
+     * @return 黑名单
+     * @throws IllegalArgumentException 文件无法读取或格式不正确
+     */
+    public static PasswordBlocklist open(String path) {
+        try {
+            return open(Paths.get(path));
+        } catch (IOException | InvalidPathException e) {
+            throw new IllegalArgumentException("无法加载密码黑名单: " + path, e);
+        }
+    }
+
+    private static PasswordBlocklist load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("密码黑名单文件格式不正确: " + file);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            long count = header.getLong(8);
+            int bloomBlocks = header.getInt(16);
+            int bloomHashes = header.getInt(20);
+            long dataStart = HEADER_BYTES + (long) bloomBlocks * BLOCK_BYTES;
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || count < 0 || bloomBlocks < 0
+                    || bloomHashes < 1 || bloomHashes > MAX_BLOOM_HASHES
+                    || dataStart > Integer.MAX_VALUE || size != dataStart + count * 8) {
+                throw new IOException("密码黑名单文件格式不正确: " + file);
+            }
+            ByteBuffer bloom = bloomBlocks == 0 ? null
+                    : channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, (long) bloomBlocks * BLOCK_BYTES);
+            ByteBuffer[] segments = new ByteBuffer[(int) ((count + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i << SEGMENT_SHIFT;
+                long entries = Math.min(count - first, 1L << SEGMENT_SHIFT);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + first * 8, entries * 8);
+            }
+            // 映射在通道关闭后仍然有效
+            return new PasswordBlocklist(count, bloom, bloomBlocks, bloomHashes, segments);
+        }
+    }
+
+    /**
+     * @return 黑名单中的记录数
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 判断密码是否在黑名单中
+     *
+     * @param password 密码，为null时返回false
+     * @return 是否为已泄露的密码
+     */
+    public boolean contains(String password) {
+        return password != null && containsHash(hash(password));
+    }
+
+    /**
+     * 判断 SHA-1 前缀是否在黑名单中
+     *
+     * @param prefix 密码 UTF-8 编码的 SHA-1 的前 8 个字节（大端序）
+     * @return 是否在黑名单中
+     */
+    public boolean containsHash(long prefix) {
+        if (count == 0 || !mightContain(prefix)) {
+            return false;
+        }
+        long key = prefix ^ Long.MIN_VALUE;
+        long lo = 0;
+        long hi = count - 1;
+        for (int step = 0; lo <= hi; step++) {
+            long mid;
+            if (step < INTERPOLATION_STEPS) {
+                long loKey = entry(lo);
+                long hiKey = entry(hi);
+                if (key < loKey || key > hiKey) {
+                    return false;
+                }
+                // 按键值在区间中的比例估计位置，哈希均匀分布时误差很小
+                double ratio = hiKey == loKey ? 0 : ((double) key - (double) loKey) / ((double) hiKey - (double) loKey);
+                mid = Math.min(hi, Math.max(lo, lo + (long) (ratio * (hi - lo))));
+            } else {
+                mid = (lo + hi) >>> 1;
+            }
+            long value = entry(mid);
+            if (value == key) {
+                return true;
+            }
+            if (value < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return false;
+    }
+
+    private long entry(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) ((index & SEGMENT_MASK) << 3));
+    }
+
+    private boolean mightContain(long prefix) {
+        if (bloom == null) {
+            return true;
+        }
+        int base = bloomBlock(prefix, bloomBlocks) * BLOCK_BYTES;
+        for (int i = 0; i < bloomHashes; i++) {
+            int bit = bloomBit(prefix, i);
+            if ((bloom.getLong(base + (bit >>> 6) * 8) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 布隆过滤器中哈希所在的块
+     */
+    static int bloomBlock(long prefix, int blocks) {
+        return (int) (((prefix >>> 32) * blocks) >>> 32);
+    }
+
+    /**
+     * 哈希在块内设置的第 i 个位（0-511），取打散后哈希的连续 9 位
+     */
+    static int bloomBit(long prefix, int i) {
+        return (int) ((prefix * 0x9E3779B97F4A7C15L) >>> (i * 9)) & 511;
+    }
+
+    /**
+     * 计算密码 UTF-8 编码的 SHA-1 的前 8 个字节，每个线程复用同一个 MessageDigest，不创建对象
+     * 未配对的代理字符按 String.getBytes(UTF_8) 的方式编码为 '?'
+     *
+     * @param password 密码
+     * @return 大端序的前 8 个字节
+     */
+    public static long hash(String password) {
+        return SHA1.get().prefix(password);
+    }
+
+    /**
+     * 可复用的 SHA-1 计算状态：MessageDigest 实例、UTF-8 编码缓冲区和摘要输出缓冲区
+     * 使用 digest(byte[], int, int) 把摘要写入已有数组，整个计算过程不创建对象
+     */
+    private static final class Sha1 {
+
+        private final MessageDigest digest;
+
+        private final byte[] output = new byte[20];
+
+        private byte[] message = new byte[128];
+
+        Sha1() {
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                // 每个 Java 平台实现都必须支持 SHA-1
+                throw new IllegalStateException(e);
+            }
+        }
+
+        long prefix(String text) {
+            int length = encode(text);
+            digest.update(message, 0, length);
+            try {
+                digest.digest(output, 0, output.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            long prefix = 0;
+            for (int i = 0; i < 8; i++) {
+                prefix = (prefix << 8) | (output[i] & 0xFF);
+            }
+            return prefix;
+        }
+
+        /**
+         * 把字符串按 UTF-8 编码写入 message，返回字节数
+         */
+        private int encode(String text) {
+            int length = text.length();
+            ensureCapacity(length * 3);
+            byte[] m = message;
+            int n = 0;
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    m[n++] = (byte) c;
+                } else if (c < 0x800) {
+                    m[n++] = (byte) (0xC0 | (c >> 6));
+                    m[n++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, text.charAt(++i));
+                    m[n++] = (byte) (0xF0 | (cp >> 18));
+                    m[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    m[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    m[n++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    m[n++] = '?';
+                } else {
+                    m[n++] = (byte) (0xE0 | (c >> 12));
+                    m[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    m[n++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return n;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (message.length < capacity) {
+                message = new byte[Math.max(capacity, message.length * 2)];
+            }
+        }
+    }
+}
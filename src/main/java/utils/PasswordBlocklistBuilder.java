@@ -0,0 +1,276 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 密码黑名单文件生成工具
+ * 读取密码字典（每行一个明文密码，UTF-8 编码）或 SHA-1 哈希列表（每行以 40 位十六进制 SHA-1 开头，
+ * 例如 Have I Been Pwned 提供的 "哈希:次数" 格式），生成 {@link PasswordBlocklist} 使用的文件
+ *
+ * <p>用法：</p>
+ * <pre>
+ * java -cp validation-lib.jar utils.PasswordBlocklistBuilder 输入文件 输出文件 [--sha1]
+ * </pre>
+ *
+ * <p>读取时记录按固定大小的数据块保存，每块写满后原地排序，最后多路归并写出，不会把全部记录复制到一个大数组中。
+ * 堆内存峰值约为每条记录 8 字节，加上布隆过滤器每条记录约 1.25 字节（最多 1GB）和一个数据块（8MB），
+ * 例如 10 亿条记录约需 9.3GB，需要相应调大 -Xmx；生成的文件在运行时只做内存映射，不占用堆内存</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PasswordBlocklistBuilder
+ * @Date：2026/10/18 21:40
+ * @Filename：PasswordBlocklistBuilder
+ */
+public final class PasswordBlocklistBuilder {
+
+    /**
+     * 布隆过滤器每条记录占用的位数，分块过滤器在每条记录 10 位、7 个哈希位时误判率约为 1%
+     */
+    private static final int BLOOM_BITS_PER_ENTRY = 10;
+
+    private static final int BLOOM_HASHES = 7;
+
+    /**
+     * 布隆过滤器最多 2^24 块（1GB），保证过滤器可以映射为单个缓冲区
+     */
+    private static final int MAX_BLOOM_BLOCKS = 1 << 24;
+
+    /**
+     * 每个数据块的记录数（8MB）
+     */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private PasswordBlocklistBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3 || (args.length == 3 && !args[2].equals("--sha1"))) {
+            System.err.println("用法: java utils.PasswordBlocklistBuilder <输入文件> <输出文件> [--sha1]");
+            System.exit(2);
+            return;
+        }
+        long count = build(Paths.get(args[0]), Paths.get(args[1]), args.length == 3);
+        System.out.println("已写入 " + count + " 条记录: " + args[1]);
+    }
+
+    /**
+     * 生成黑名单文件
+     *
+     * @param input      输入文件，每行一个明文密码或一个 SHA-1 哈希；空行被忽略
+     * @param output     输出文件，已存在时覆盖
+     * @param sha1Input  输入是否为 SHA-1 哈希列表
+     * @return 去重后的记录数
+     * @throws IOException 读写失败，或哈希列表中存在格式不正确的行
+     */
+    public static long build(Path input, Path output, boolean sha1Input) throws IOException {
+        // 记录按有符号数比较即为按无符号前缀排序
+        List<long[]> runs = new ArrayList<>();
+        long[] chunk = new long[CHUNK_SIZE];
+        int length = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                long prefix = sha1Input ? parseSha1Prefix(line, lineNumber) : PasswordBlocklist.hash(line);
+                if (length == CHUNK_SIZE) {
+                    Arrays.sort(chunk);
+                    runs.add(chunk);
+                    chunk = new long[CHUNK_SIZE];
+                    length = 0;
+                }
+                chunk[length++] = prefix ^ Long.MIN_VALUE;
+            }
+        }
+        if (length > 0) {
+            // 最后一块按实际长度截断，之后不再有未使用的空间
+            long[] last = Arrays.copyOf(chunk, length);
+            chunk = null;
+            Arrays.sort(last);
+            runs.add(last);
+        }
+        return write(runs, output);
+    }
+
+    /**
+     * 归并已排序的数据块，去重后写出文件
+     * 依次归并三遍：统计去重后的记录数、填充布隆过滤器、写出记录，都直接读取数据块，不复制记录
+     *
+     * @param runs 已排序的数据块，记录为前缀与 Long.MIN_VALUE 异或后的值
+     */
+    static long write(List<long[]> runs, Path output) throws IOException {
+        long count = 0;
+        for (SortedRuns merge = new SortedRuns(runs); merge.next(); ) {
+            count++;
+        }
+
+        int blocks = count == 0 ? 0
+                : (int) Math.min(MAX_BLOOM_BLOCKS, Math.max(1, count * BLOOM_BITS_PER_ENTRY / 512));
+        long[] bloom = new long[blocks * 8];
+        for (SortedRuns merge = new SortedRuns(runs); merge.next(); ) {
+            long prefix = merge.current() ^ Long.MIN_VALUE;
+            int base = PasswordBlocklist.bloomBlock(prefix, blocks) * 8;
+            for (int h = 0; h < BLOOM_HASHES; h++) {
+                int bit = PasswordBlocklist.bloomBit(prefix, h);
+                bloom[base + (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+            buffer.putInt(PasswordBlocklist.MAGIC)
+                    .putInt(PasswordBlocklist.VERSION)
+                    .putLong(count)
+                    .putInt(blocks)
+                    .putInt(BLOOM_HASHES)
+                    .putLong(0);
+            for (long word : bloom) {
+                put(channel, buffer, word);
+            }
+            for (SortedRuns merge = new SortedRuns(runs); merge.next(); ) {
+                put(channel, buffer, merge.current());
+            }
+            flush(channel, buffer);
+        }
+        return count;
+    }
+
+    private static void put(FileChannel channel, ByteBuffer buffer, long value) throws IOException {
+        if (buffer.remaining() < 8) {
+            flush(channel, buffer);
+        }
+        buffer.putLong(value);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 取 SHA-1 十六进制字符串的前 16 位
+     */
+    private static long parseSha1Prefix(String line, long lineNumber) throws IOException {
+        if (line.length() < 40) {
+            throw new IOException("第 " + lineNumber + " 行不是 SHA-1 哈希");
+        }
+        long prefix = 0;
+        for (int i = 0; i < 40; i++) {
+            int digit = Character.digit(line.charAt(i), 16);
+            if (digit < 0) {
+                throw new IOException("第 " + lineNumber + " 行不是 SHA-1 哈希");
+            }
+            if (i < 16) {
+                prefix = (prefix << 4) | digit;
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * 多个已排序数据块的多路归并，按升序依次给出去重后的记录
+     * 用小顶堆保存各数据块的编号，堆顶是当前值最小的数据块
+     */
+    private static final class SortedRuns {
+
+        private final long[][] runs;
+
+        /**
+         * 数据块编号 -> 下一条未读记录的下标
+         */
+        private final int[] positions;
+
+        private final int[] heap;
+
+        private int size;
+
+        private boolean started;
+
+        private long current;
+
+        SortedRuns(List<long[]> runs) {
+            this.runs = runs.toArray(new long[0][]);
+            this.positions = new int[this.runs.length];
+            this.heap = new int[this.runs.length];
+            for (int run = 0; run < this.runs.length; run++) {
+                if (this.runs[run].length > 0) {
+                    heap[size++] = run;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        /**
+         * 前进到下一条不重复的记录
+         *
+         * @return 是否还有记录
+         */
+        boolean next() {
+            while (size > 0) {
+                int run = heap[0];
+                long value = runs[run][positions[run]++];
+                if (positions[run] == runs[run].length) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(0);
+                if (!started || value != current) {
+                    started = true;
+                    current = value;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long current() {
+            return current;
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                if (left < size && head(left) < head(smallest)) {
+                    smallest = left;
+                }
+                if (left + 1 < size && head(left + 1) < head(smallest)) {
+                    smallest = left + 1;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                int swap = heap[i];
+                heap[i] = heap[smallest];
+                heap[smallest] = swap;
+                i = smallest;
+            }
+        }
+
+        private long head(int i) {
+            int run = heap[i];
+            return runs[run][positions[run]];
+        }
+    }
+}
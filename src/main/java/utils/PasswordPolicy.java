@@ -0,0 +1,160 @@
+package utils;
+
+/**
+ * 预编译的密码复杂度规则
+ * ASCII 字符的类别（大写字母、小写字母、数字、特殊字符）在编译时写入 128 项的查找表，校验时每个字符只查一次表；
+ * 非 ASCII 字符按 Character.isUpperCase/isLowerCase/isDigit 判断，再查找非 ASCII 的特殊字符。
+ * 校验通过 charAt 逐个读取字符，不复制字符串，所有要求的类别都出现后立即返回
+ * 实例不可变，可以在多个线程间共享
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PasswordPolicy
+ * @Date：2026/10/18 21:10
+ * @Filename：PasswordPolicy
+ */
+public final class PasswordPolicy {
+
+    /**
+     * 默认的特殊字符集合
+     */
+    public static final String DEFAULT_SPECIAL_CHARS = "!@#$%^&*(),.?\":{}|<>";
+
+    private static final int UPPER = 1;
+    private static final int LOWER = 2;
+    private static final int DIGIT = 4;
+    private static final int SPECIAL = 8;
+
+    /**
+     * 默认特殊字符集合对应的查找表
+     */
+    static final byte[] DEFAULT_CLASSES = charClasses(DEFAULT_SPECIAL_CHARS);
+
+    /**
+     * ASCII 字符 -> 字符类别
+     */
+    private final byte[] classes;
+
+    /**
+     * 特殊字符集合中的非 ASCII 字符
+     */
+    private final String nonAsciiSpecials;
+
+    /**
+     * 要求出现的字符类别
+     */
+    private final int required;
+
+    private final int minLength;
+
+    private final int maxLength;
+
+    private PasswordPolicy(byte[] classes, String nonAsciiSpecials, int required, int minLength, int maxLength) {
+        this.classes = classes;
+        this.nonAsciiSpecials = nonAsciiSpecials;
+        this.required = required;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 编译密码复杂度规则
+     *
+     * @param requireUppercase 是否需要大写字母
+     * @param requireLowercase 是否需要小写字母
+     * @param requireDigit     是否需要数字
+     * @param requireSpecial   是否需要特殊字符
+     * @param minLength        最小长度
+     * @param maxLength        最大长度
+     * @param specialChars     特殊字符集合，为null时视为空
+     * @return 编译后的规则
+     */
+    public static PasswordPolicy compile(boolean requireUppercase, boolean requireLowercase, boolean requireDigit,
+                                         boolean requireSpecial, int minLength, int maxLength, String specialChars) {
+        String specials = specialChars == null ? "" : specialChars;
+        byte[] classes = specials.equals(DEFAULT_SPECIAL_CHARS) ? DEFAULT_CLASSES : charClasses(specials);
+        StringBuilder nonAscii = new StringBuilder();
+        for (int i = 0; i < specials.length(); i++) {
+            if (specials.charAt(i) >= 128) {
+                nonAscii.append(specials.charAt(i));
+            }
+        }
+        return new PasswordPolicy(classes, nonAscii.toString(),
+                required(requireUppercase, requireLowercase, requireDigit, requireSpecial), minLength, maxLength);
+    }
+
+    /**
+     * 校验密码
+     *
+     * @param password 密码
+     * @return 是否符合复杂度要求
+     */
+    public boolean isValid(String password) {
+        return check(password, required, minLength, maxLength, classes, nonAsciiSpecials);
+    }
+
+    /**
+     * 要求的字符类别组合为位掩码
+     */
+    static int required(boolean requireUppercase, boolean requireLowercase, boolean requireDigit,
+                        boolean requireSpecial) {
+        return (requireUppercase ? UPPER : 0) | (requireLowercase ? LOWER : 0)
+                | (requireDigit ? DIGIT : 0) | (requireSpecial ? SPECIAL : 0);
+    }
+
+    /**
+     * 单次遍历校验密码
+     *
+     * @param password         密码
+     * @param required         要求的字符类别
+     * @param minLength        最小长度
+     * @param maxLength        最大长度
+     * @param classes          ASCII 字符的类别查找表
+     * @param nonAsciiSpecials 非 ASCII 的特殊字符
+     * @return 是否符合复杂度要求
+     */
+    static boolean check(String password, int required, int minLength, int maxLength,
+                         byte[] classes, String nonAsciiSpecials) {
+        if (password == null) {
+            return false;
+        }
+        // 长度校验
+        int length = password.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        int seen = 0;
+        for (int i = 0; i < length && (seen & required) != required; i++) {
+            char c = password.charAt(i);
+            // 非 ASCII 字符很少出现，走较慢的 Character 判断
+            seen |= c < 128 ? classes[c] : classOf(c, nonAsciiSpecials);
+        }
+        return (seen & required) == required;
+    }
+
+    /**
+     * 生成 ASCII 字符的类别查找表
+     * 类别的判断顺序与 Character 方法一致：大写字母、小写字母、数字优先于特殊字符
+     */
+    private static byte[] charClasses(String specials) {
+        byte[] classes = new byte[128];
+        for (char c = 0; c < 128; c++) {
+            classes[c] = (byte) classOf(c, specials);
+        }
+        return classes;
+    }
+
+    private static int classOf(char c, String specials) {
+        if (Character.isUpperCase(c)) {
+            return UPPER;
+        }
+        if (Character.isLowerCase(c)) {
+            return LOWER;
+        }
+        if (Character.isDigit(c)) {
+            return DIGIT;
+        }
+        return specials.indexOf(c) >= 0 ? SPECIAL : 0;
+    }
+}
@@ -0,0 +1,77 @@
+package utils;
+
+/**
+ * 手机号码段所属的运营商
+ * 号段数据中使用小写的常量名（例如 mobile、virtual）
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PhoneCarrier
+ * @Date：2026/10/18 22:40
+ * @Filename：PhoneCarrier
+ */
+public enum PhoneCarrier {
+    /**
+     * 中国移动
+     */
+    MOBILE,
+    /**
+     * 中国联通
+     */
+    UNICOM,
+    /**
+     * 中国电信
+     */
+    TELECOM,
+    /**
+     * 中国广电
+     */
+    BROADNET,
+    /**
+     * 虚拟运营商（转售号段）
+     */
+    VIRTUAL,
+    /**
+     * 卫星通信
+     */
+    SATELLITE;
+
+    private static final PhoneCarrier[] VALUES = values();
+
+    /**
+     * 所有运营商的位掩码
+     */
+    public static final int ALL = (1 << VALUES.length) - 1;
+
+    /**
+     * @return 该运营商在位掩码中对应的位
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 把运营商列表换算为位掩码
+     *
+     * @param carriers 允许的运营商，为空时表示所有运营商
+     * @return 位掩码
+     */
+    public static int mask(PhoneCarrier... carriers) {
+        if (carriers.length == 0) {
+            return ALL;
+        }
+        int mask = 0;
+        for (PhoneCarrier carrier : carriers) {
+            mask |= carrier.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * 按序号取运营商，不复制 values() 数组
+     */
+    static PhoneCarrier of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
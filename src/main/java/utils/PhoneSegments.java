@@ -0,0 +1,230 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 手机号码段索引（中国大陆 11 位号码）
+ * 号码第 2-4 位组成的三位数直接作为下标查找一个 1000 字节的平坦数组，得到号段所属的运营商，查找不创建任何对象
+ *
+ * <p>号段数据默认取自内置资源 validation/phone-segments.txt，可以通过系统属性 {@value #SEGMENTS_PROPERTY} 指定其他文件。
+ * 每行为号段和运营商（{@link PhoneCarrier} 常量名，大小写不敏感），以空白分隔，# 之后为注释；
+ * 号段为 3 位或 4 位，4 位号段覆盖所在 3 位号段中的设置，与书写顺序无关</p>
+ *
+ * <p>索引对象不可变。运行时可以用 {@link #install} 或 {@link #reload} 整体替换当前索引，
+ * 替换只是一次 volatile 写，正在校验的线程不会被阻塞，每次校验看到的都是完整的旧索引或新索引</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PhoneSegments
+ * @Date：2026/10/18 22:45
+ * @Filename：PhoneSegments
+ */
+public final class PhoneSegments {
+
+    /**
+     * 指定号段数据文件的系统属性
+     */
+    public static final String SEGMENTS_PROPERTY = "validation.phone.segments";
+
+    private static final String BUNDLED_RESOURCE = "/validation/phone-segments.txt";
+
+    /**
+     * 号码第 2-4 位 -> 运营商序号 + 1，0 表示未分配
+     */
+    private final byte[] carriers;
+
+    /**
+     * 当前使用的索引，首次使用时加载
+     */
+    private static volatile PhoneSegments current;
+
+    private PhoneSegments(byte[] carriers) {
+        this.carriers = carriers;
+    }
+
+    /**
+     * @return 当前使用的号段索引
+     * @throws IllegalStateException 首次加载时号段数据无法读取或格式不正确
+     */
+    public static PhoneSegments current() {
+        PhoneSegments segments = current;
+        if (segments == null) {
+            synchronized (PhoneSegments.class) {
+                segments = current;
+                if (segments == null) {
+                    try {
+                        segments = loadConfigured();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("无法加载手机号段数据", e);
+                    }
+                    current = segments;
+                }
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 替换当前使用的号段索引
+     *
+     * @param segments 新的号段索引
+     */
+    public static void install(PhoneSegments segments) {
+        current = Objects.requireNonNull(segments, "segments");
+    }
+
+    /**
+     * 按系统属性 {@value #SEGMENTS_PROPERTY}（未设置时为内置资源）重新加载号段数据并替换当前索引
+     * 加载失败时保留原来的索引
+     *
+     * @return 新的号段索引
+     * @throws IOException 号段数据无法读取或格式不正确
+     */
+    public static PhoneSegments reload() throws IOException {
+        PhoneSegments segments = loadConfigured();
+        install(segments);
+        return segments;
+    }
+
+    /**
+     * 从文件加载号段数据，不影响当前使用的索引
+     *
+     * @param file 号段数据文件（UTF-8）
+     * @return 号段索引
+     * @throws IOException 读取失败，或存在格式不正确的行
+     */
+    public static PhoneSegments load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * 解析号段数据
+     *
+     * @param reader 号段数据
+     * @return 号段索引
+     * @throws IOException 读取失败，或存在格式不正确的行
+     */
+    public static PhoneSegments parse(Reader reader) throws IOException {
+        byte[] carriers = new byte[1000];
+        // 已由 4 位号段设置的下标，3 位号段不再覆盖
+        boolean[] exact = new boolean[1000];
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+            String[] parts = content.split("\\s+");
+            String prefix = parts[0];
+            PhoneCarrier carrier = parts.length == 2 ? carrier(parts[1]) : null;
+            if (carrier == null || (prefix.length() != 3 && prefix.length() != 4)
+                    || prefix.charAt(0) != '1' || !isDigits(prefix)) {
+                throw new IOException("手机号段数据第 " + lineNumber + " 行格式不正确: " + line);
+            }
+            byte code = (byte) (carrier.ordinal() + 1);
+            int index = Integer.parseInt(prefix.substring(1));
+            if (prefix.length() == 4) {
+                carriers[index] = code;
+                exact[index] = true;
+            } else {
+                for (int i = index * 10; i < index * 10 + 10; i++) {
+                    if (!exact[i]) {
+                        carriers[i] = code;
+                    }
+                }
+            }
+        }
+        return new PhoneSegments(carriers);
+    }
+
+    /**
+     * 判断号码是否为已分配号段中的有效手机号，且属于允许的运营商
+     *
+     * @param phone    手机号码
+     * @param carriers 允许的运营商位掩码，见 {@link PhoneCarrier#mask}
+     * @return 是否有效
+     */
+    public boolean matches(String phone, int carriers) {
+        int code = segment(phone);
+        return code != 0 && (carriers & (1 << (code - 1))) != 0;
+    }
+
+    /**
+     * 查询号码所属的运营商
+     *
+     * @param phone 手机号码
+     * @return 运营商，号码格式不正确或号段未分配时为null
+     */
+    public PhoneCarrier carrierOf(String phone) {
+        int code = segment(phone);
+        return code == 0 ? null : PhoneCarrier.of(code - 1);
+    }
+
+    /**
+     * @return 运营商序号 + 1，号码格式不正确或号段未分配时为0
+     */
+    private int segment(String phone) {
+        if (phone == null || phone.length() != 11 || phone.charAt(0) != '1') {
+            return 0;
+        }
+        int index = 0;
+        for (int i = 1; i < 11; i++) {
+            int digit = phone.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+            if (i < 4) {
+                index = index * 10 + digit;
+            }
+        }
+        return carriers[index];
+    }
+
+    private static PhoneSegments loadConfigured() throws IOException {
+        String file = System.getProperty(SEGMENTS_PROPERTY);
+        if (file != null && !file.isEmpty()) {
+            return load(Paths.get(file));
+        }
+        InputStream in = PhoneSegments.class.getResourceAsStream(BUNDLED_RESOURCE);
+        if (in == null) {
+            throw new IOException("缺少内置资源 " + BUNDLED_RESOURCE);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    private static PhoneCarrier carrier(String name) {
+        try {
+            return PhoneCarrier.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
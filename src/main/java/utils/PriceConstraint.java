@@ -0,0 +1,134 @@
+package utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 预编译的金额范围约束
+ * 将 @Price 注解的最小/最大值在创建时一次性转换为 BigDecimal，校验时不再为边界创建对象
+ * 对于未缩放值能用 long 表示的金额（绝大多数业务金额），BigDecimal.compareTo 内部直接以 long 运算比较，
+ * 因此整个校验过程不分配任何对象
+ * 实例不可变，可以在多个线程间共享
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：PriceConstraint
+ * @Date：2026/10/18 19:10
+ * @Filename：PriceConstraint
+ */
+public final class PriceConstraint {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * 最小金额，为null表示无最小限制（min 为负无穷）
+     */
+    private final BigDecimal min;
+
+    /**
+     * 最大金额，为null表示无最大限制（max 为正无穷）
+     */
+    private final BigDecimal max;
+
+    /**
+     * 边界为 NaN 或无法满足的无穷值时为true，此时任何金额都校验失败
+     */
+    private final boolean broken;
+
+    /**
+     * 原始的 double 边界，供 double 类型的金额使用
+     */
+    private final double minValue;
+    private final double maxValue;
+
+    /**
+     * 取整后的整数边界，供 int、long 类型的金额使用；没有任何 long 值在范围内时 minLong 大于 maxLong
+     */
+    private final long minLong;
+    private final long maxLong;
+
+    private PriceConstraint(BigDecimal min, BigDecimal max, boolean broken, double minValue, double maxValue) {
+        this.min = min;
+        this.max = max;
+        this.broken = broken;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        long minLong = Long.MIN_VALUE;
+        long maxLong = Long.MAX_VALUE;
+        if (min != null) {
+            BigDecimal ceiling = min.setScale(0, RoundingMode.CEILING);
+            if (ceiling.compareTo(LONG_MAX) > 0) {
+                minLong = Long.MAX_VALUE;
+                maxLong = Long.MIN_VALUE;
+            } else if (ceiling.compareTo(LONG_MIN) > 0) {
+                minLong = ceiling.longValue();
+            }
+        }
+        if (max != null && minLong <= maxLong) {
+            BigDecimal floor = max.setScale(0, RoundingMode.FLOOR);
+            if (floor.compareTo(LONG_MIN) < 0) {
+                minLong = Long.MAX_VALUE;
+                maxLong = Long.MIN_VALUE;
+            } else if (floor.compareTo(LONG_MAX) < 0) {
+                maxLong = floor.longValue();
+            }
+        }
+        this.minLong = minLong;
+        this.maxLong = maxLong;
+    }
+
+    /**
+     * 编译金额范围约束
+     * 边界与 FieldValidator.isValidPrice 一致，按 BigDecimal.valueOf(double) 转换（即按 double 的十进制字符串表示）
+     *
+     * @param min 最小金额，负无穷表示无最小限制
+     * @param max 最大金额，正无穷表示无最大限制
+     * @return 编译后的约束
+     */
+    public static PriceConstraint compile(double min, double max) {
+        boolean broken = Double.isNaN(min) || Double.isNaN(max)
+                || min == Double.POSITIVE_INFINITY || max == Double.NEGATIVE_INFINITY;
+        if (broken) {
+            return new PriceConstraint(null, null, true, min, max);
+        }
+        return new PriceConstraint(
+                min == Double.NEGATIVE_INFINITY ? null : BigDecimal.valueOf(min),
+                max == Double.POSITIVE_INFINITY ? null : BigDecimal.valueOf(max),
+                false, min, max);
+    }
+
+    /**
+     * 校验金额是否在范围内（包含边界）
+     *
+     * @param price 金额
+     * @return 是否在范围内
+     */
+    public boolean isValid(BigDecimal price) {
+        if (price == null || broken) {
+            return false;
+        }
+        return (min == null || price.compareTo(min) >= 0) && (max == null || price.compareTo(max) <= 0);
+    }
+
+    /**
+     * 校验 int、long 类型的金额是否在范围内（包含边界）
+     *
+     * @param price 金额
+     * @return 是否在范围内
+     */
+    public boolean isValid(long price) {
+        return !broken && price >= minLong && price <= maxLong;
+    }
+
+    /**
+     * 校验 double 类型的金额是否在范围内（包含边界）
+     *
+     * @param price 金额
+     * @return 是否在范围内
+     */
+    public boolean isValid(double price) {
+        return !broken && FieldValidator.isValidPrice(price, minValue, maxValue);
+    }
+}
@@ -0,0 +1,271 @@
+package utils;
+
+import java.net.IDN;
+import java.util.Locale;
+
+/**
+ * 预编译的 URL 约束：协议白名单和主机名黑白名单
+ * 校验时单次遍历 URL，以下标区间确定协议、主机、端口和路径的位置，不截取子串、不创建对象；
+ * 主机名规则编译为 {@link HostSuffixTrie}。实例不可变，可以在多个线程间共享
+ *
+ * <p>除协议外，URL 的格式要求与 {@link FieldValidator#isValidUrl} 相同，URL 中的协议名称同样必须为小写。配置了主机名规则时还要求：</p>
+ * <ul>
+ *     <li>主机名只包含 ASCII 字母、数字、- _ . 和非 ASCII 字符（国际化域名），不能包含空标签或百分号编码；
+ *     IPv6 地址写在方括号中</li>
+ *     <li>含有非 ASCII 字符的主机名与浏览器一样按 IDNA（{@link IDN#toASCII}）转换后再与规则比较：全角字符映射为 ASCII，
+ *     。．｡ 视为标签分隔符，软连字符等字符被删除，因此 http://ｌｏｃａｌｈｏｓｔ/ 与 http://localhost/ 匹配同样的规则；
+ *     无法转换或转换结果不是合法主机名时校验失败</li>
+ *     <li>端口（如果有）为 0-65535 之间的数字</li>
+ *     <li>与浏览器一致，反斜杠 \ 视为路径分隔符，因此 http://a.com\@b.com 的主机名是 a.com</li>
+ * </ul>
+ * <p>主机名先与黑名单比较，再与白名单比较（白名单为空表示不限制）。规则按文本匹配，
+ * 不做 DNS 解析，也不识别十进制、八进制等非常规写法的 IP 地址；防范 SSRF 时应优先使用白名单</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：utils
+ * @Project：validation-lib
+ * @name：UrlConstraint
+ * @Date：2026/10/18 23:40
+ * @Filename：UrlConstraint
+ */
+public final class UrlConstraint {
+
+    /**
+     * 未配置协议白名单时允许的协议，与 {@link FieldValidator#isValidUrl} 一致
+     */
+    private static final String[] DEFAULT_SCHEMES = {"http", "https", "ftp"};
+
+    /**
+     * 允许的协议（小写）
+     */
+    private final String[] schemes;
+
+    /**
+     * 允许的主机，为null表示不限制
+     */
+    private final HostSuffixTrie allowedHosts;
+
+    /**
+     * 禁止的主机，为null表示不限制
+     */
+    private final HostSuffixTrie deniedHosts;
+
+    private UrlConstraint(String[] schemes, HostSuffixTrie allowedHosts, HostSuffixTrie deniedHosts) {
+        this.schemes = schemes;
+        this.allowedHosts = allowedHosts;
+        this.deniedHosts = deniedHosts;
+    }
+
+    /**
+     * 编译 URL 约束
+     *
+     * @param allowedSchemes 允许的协议，按小写比较；为空时允许 http、https、ftp
+     * @param allowedHosts   允许的主机名规则，为空时不限制，规则格式见 {@link HostSuffixTrie}
+     * @param deniedHosts    禁止的主机名规则
+     * @return 编译后的约束
+     * @throws IllegalArgumentException 协议或主机名规则不正确
+     */
+    public static UrlConstraint compile(String[] allowedSchemes, String[] allowedHosts, String[] deniedHosts) {
+        String[] schemes = allowedSchemes.length == 0 ? DEFAULT_SCHEMES : new String[allowedSchemes.length];
+        for (int i = 0; i < allowedSchemes.length; i++) {
+            String scheme = allowedSchemes[i];
+            if (scheme.isEmpty() || schemeLength(scheme, 0) != scheme.length()) {
+                throw new IllegalArgumentException("协议名称不正确: " + scheme);
+            }
+            schemes[i] = scheme.toLowerCase(Locale.ROOT);
+        }
+        return new UrlConstraint(schemes,
+                allowedHosts.length == 0 ? null : HostSuffixTrie.compile(allowedHosts),
+                deniedHosts.length == 0 ? null : HostSuffixTrie.compile(deniedHosts));
+    }
+
+    /**
+     * 校验 URL
+     *
+     * @param url URL字符串
+     * @return 是否有效
+     */
+    public boolean isValid(String url) {
+        if (url == null) {
+            return false;
+        }
+        // 协议：字母开头，后接字母、数字、+ - .，再接 ://
+        int schemeEnd = schemeLength(url, 0);
+        if (schemeEnd == 0 || !url.startsWith("://", schemeEnd) || !isAllowedScheme(url, schemeEnd)) {
+            return false;
+        }
+        int authorityStart = schemeEnd + 3;
+        if (!FieldValidator.isValidUrlTail(url, authorityStart)) {
+            return false;
+        }
+        if (allowedHosts == null && deniedHosts == null) {
+            return true;
+        }
+        // 授权部分在第一个 / ? # \ 处结束，其余为路径、查询和片段
+        int length = url.length();
+        int pathStart = authorityStart;
+        while (pathStart < length) {
+            char c = url.charAt(pathStart);
+            if (c == '/' || c == '?' || c == '#' || c == '\\') {
+                break;
+            }
+            pathStart++;
+        }
+        // 用户信息在最后一个 @ 之前
+        int hostStart = authorityStart;
+        for (int i = pathStart - 1; i >= authorityStart; i--) {
+            if (url.charAt(i) == '@') {
+                hostStart = i + 1;
+                break;
+            }
+        }
+        int hostEnd = hostEnd(url, hostStart, pathStart);
+        if (hostEnd <= hostStart || !isValidPort(url, hostEnd, pathStart)) {
+            return false;
+        }
+        CharSequence host = url;
+        if (!isAscii(url, hostStart, hostEnd)) {
+            // 只有国际化主机名需要转换，ASCII 主机名仍在原字符串上匹配
+            host = toAsciiHost(url.substring(hostStart, hostEnd));
+            if (host == null) {
+                return false;
+            }
+            hostStart = 0;
+            hostEnd = host.length();
+        }
+        return (deniedHosts == null || !deniedHosts.matches(host, hostStart, hostEnd))
+                && (allowedHosts == null || allowedHosts.matches(host, hostStart, hostEnd));
+    }
+
+    /**
+     * 按 IDNA 把主机名转换为 ASCII 形式，与浏览器解析主机名的结果一致
+     *
+     * @param host 含有非 ASCII 字符的主机名
+     * @return 转换后的主机名，无法转换或转换结果不是合法主机名（例如全角 ／ 或 ： 映射为 / 或 :）时为null
+     */
+    static String toAsciiHost(String host) {
+        String ascii;
+        try {
+            ascii = IDN.toASCII(host, IDN.ALLOW_UNASSIGNED);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return !ascii.isEmpty() && hostEnd(ascii, 0, ascii.length()) == ascii.length() ? ascii : null;
+    }
+
+    /**
+     * 确定主机名的结束位置并检查主机名中的字符
+     *
+     * @return 主机名结束位置（不含），主机名不正确时为-1
+     */
+    private static int hostEnd(String url, int start, int end) {
+        if (start < end && url.charAt(start) == '[') {
+            // IPv6 地址：十六进制数字、: 和 .（内嵌 IPv4）
+            for (int i = start + 1; i < end; i++) {
+                char c = url.charAt(i);
+                if (c == ']') {
+                    return i > start + 1 ? i + 1 : -1;
+                }
+                if (c > 0x7F || (c != ':' && c != '.' && Character.digit(c, 16) < 0)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+        int i = start;
+        boolean labelStart = true;
+        while (i < end) {
+            char c = url.charAt(i);
+            if (c == ':') {
+                break;
+            }
+            if (isLabelSeparator(c)) {
+                if (labelStart) {
+                    return -1;
+                }
+                labelStart = true;
+            } else if (isHostChar(c)) {
+                labelStart = false;
+            } else {
+                return -1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @param from 主机名结束位置
+     * @param to   授权部分结束位置
+     * @return 主机名之后为空，或为 : 加 1-5 位不超过 65535 的数字
+     */
+    private static boolean isValidPort(String url, int from, int to) {
+        if (from == to) {
+            return true;
+        }
+        if (url.charAt(from) != ':' || to - from < 2 || to - from > 6) {
+            return false;
+        }
+        int port = 0;
+        for (int i = from + 1; i < to; i++) {
+            int digit = url.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            port = port * 10 + digit;
+        }
+        return port <= 65535;
+    }
+
+    private boolean isAllowedScheme(String url, int length) {
+        for (String scheme : schemes) {
+            if (scheme.length() == length && url.startsWith(scheme)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 从 from 开始的协议名称长度，不是协议名称时为0
+     */
+    private static int schemeLength(String text, int from) {
+        int i = from;
+        if (i >= text.length() || !isAsciiLetter(text.charAt(i))) {
+            return 0;
+        }
+        i++;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (!isAsciiLetter(c) && !(c >= '0' && c <= '9') && c != '+' && c != '-' && c != '.') {
+                break;
+            }
+            i++;
+        }
+        return i - from;
+    }
+
+    private static boolean isAscii(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return 是否为 IDNA 中的标签分隔符：. 以及 。（U+3002）、．（U+FF0E）、｡（U+FF61）
+     */
+    private static boolean isLabelSeparator(char c) {
+        return c == '.' || c == '\u3002' || c == '\uFF0E' || c == '\uFF61';
+    }
+
+    private static boolean isHostChar(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9') || c == '-' || c == '_' || c > 0x7F;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,45 @@
+package validators;
+
+import annotations.Address;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+/**
+ * 地址长度校验器
+ * 对应注解：{@link Address}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：AddressValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：AddressValidator
+ */
+public class AddressValidator implements ConstraintValidator<Address, String> {
+
+    /**
+     * 最小长度
+     */
+    private int minLength;
+
+    /**
+     * 最大长度
+     */
+    private int maxLength;
+
+    @Override
+    public void initialize(Address annotation) {
+        this.minLength = annotation.minLength();
+        this.maxLength = annotation.maxLength();
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidAddress(value, minLength, maxLength);
+    }
+
+    @Override
+    public int cost() {
+        return COST_CHEAP;
+    }
+}
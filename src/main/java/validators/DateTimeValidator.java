@@ -0,0 +1,42 @@
+package validators;
+
+import annotations.DateTime;
+import engine.ConstraintValidator;
+import utils.DateTimeConstraint;
+
+/**
+ * 日期时间格式及范围校验器
+ * 对应注解：{@link DateTime}
+ * 支持 String、LocalDate、LocalDateTime、Instant 类型的字段，后三者直接与已解析的范围比较
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：DateTimeValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：DateTimeValidator
+ */
+public class DateTimeValidator implements ConstraintValidator<DateTime, Object> {
+
+    /**
+     * 按注解编译好的日期时间约束：格式化器、是否包含时间部分以及已解析的最小/最大范围
+     */
+    private DateTimeConstraint constraint;
+
+    @Override
+    public void initialize(DateTime annotation) {
+        this.constraint = DateTimeConstraint.compile(annotation.pattern(), annotation.min(), annotation.max(),
+                annotation.zone());
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+        return constraint.isValidValue(value);
+    }
+
+    @Override
+    public int cost() {
+        // 标准格式由手写解析器定长扫描，其他格式需要 DateTimeFormatter 解析并分配对象
+        return constraint.isStandard() ? COST_DEFAULT : COST_EXPENSIVE;
+    }
+}
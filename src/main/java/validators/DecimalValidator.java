@@ -0,0 +1,42 @@
+package validators;
+
+import annotations.Decimal;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+import java.math.BigDecimal;
+
+/**
+ * 数值精度校验器
+ * 对应注解：{@link Decimal}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：DecimalValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：DecimalValidator
+ */
+public class DecimalValidator implements ConstraintValidator<Decimal, BigDecimal> {
+
+    /**
+     * 整数部分最大位数
+     */
+    private int integerPart;
+
+    /**
+     * 小数部分最大位数
+     */
+    private int fractionPart;
+
+    @Override
+    public void initialize(Decimal annotation) {
+        this.integerPart = annotation.integerPart();
+        this.fractionPart = annotation.fractionPart();
+    }
+
+    @Override
+    public boolean isValid(BigDecimal value) {
+        return FieldValidator.isValidDecimal(value, integerPart, fractionPart);
+    }
+}
@@ -0,0 +1,43 @@
+package validators;
+
+import annotations.Email;
+import engine.ConstraintValidator;
+import utils.EmailDomainBlocklist;
+import utils.FieldValidator;
+
+/**
+ * 邮箱格式校验器
+ * 对应注解：{@link Email}
+ * 配置了域名黑名单时在格式校验通过后再查找黑名单
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：EmailValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：EmailValidator
+ */
+public class EmailValidator implements ConstraintValidator<Email, String> {
+
+    /**
+     * 邮箱域名黑名单，未配置时为null
+     */
+    private EmailDomainBlocklist blocklist;
+
+    @Override
+    public void initialize(Email annotation) {
+        if (!annotation.blocklist().isEmpty()) {
+            this.blocklist = EmailDomainBlocklist.open(annotation.blocklist());
+        }
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidEmail(value) && (blocklist == null || !blocklist.blocks(value));
+    }
+
+    @Override
+    public int cost() {
+        return COST_SCAN;
+    }
+}
@@ -0,0 +1,84 @@
+package validators;
+
+import annotations.EnumValue;
+import engine.ConstraintValidator;
+import utils.EnumIndex;
+
+/**
+ * 枚举值校验器
+ * 对应注解：{@link EnumValue}
+ * 枚举索引和编码索引在初始化时取得，按序号或编码匹配时 int、long 类型的字段不装箱
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：EnumValueValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：EnumValueValidator
+ */
+public class EnumValueValidator implements ConstraintValidator<EnumValue, Object> {
+
+    /**
+     * 枚举类的索引
+     */
+    private EnumIndex index;
+
+    /**
+     * 匹配方式
+     */
+    private EnumValue.Match match;
+
+    /**
+     * 编码索引，仅在按编码匹配时不为null
+     */
+    private EnumIndex.Codes codes;
+
+    @Override
+    public void initialize(EnumValue annotation) {
+        this.index = EnumIndex.of(annotation.enumClass());
+        this.match = annotation.match();
+        // 编码访问方法不存在时在构建校验计划时即报错，而不是等到校验某个值时
+        this.codes = match == EnumValue.Match.CODE ? index.codes(annotation.codeAccessor()) : null;
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (index.isConstant(value)) {
+            return true;
+        }
+        switch (match) {
+            case ORDINAL:
+                return index.hasOrdinal(value);
+            case CODE:
+                return codes.contains(value);
+            default:
+                return index.hasName(value.toString());
+        }
+    }
+
+    @Override
+    public boolean isValidInt(int value) {
+        return isValidLong(value);
+    }
+
+    @Override
+    public boolean isValidLong(long value) {
+        switch (match) {
+            case ORDINAL:
+                return index.hasOrdinal(value);
+            case CODE:
+                return codes.contains(value);
+            default:
+                // 常量名称是Java标识符，不可能与整数的字符串形式相同
+                return false;
+        }
+    }
+
+    @Override
+    public int cost() {
+        return COST_CHEAP;
+    }
+}
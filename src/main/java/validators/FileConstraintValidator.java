@@ -0,0 +1,49 @@
+package validators;
+
+import annotations.FileConstraint;
+import engine.ConstraintValidator;
+import engine.FileData;
+import utils.FileContentConstraint;
+
+/**
+ * 文件大小及类型校验器
+ * 对应注解：{@link FileConstraint}
+ * 大小上限和允许的类型在初始化时编译为 {@link FileContentConstraint}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：FileConstraintValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：FileConstraintValidator
+ */
+public class FileConstraintValidator implements ConstraintValidator<FileConstraint, Object> {
+
+    /**
+     * 编译后的文件约束
+     */
+    private FileContentConstraint constraint;
+
+    @Override
+    public void initialize(FileConstraint annotation) {
+        this.constraint = FileContentConstraint.compile(annotation.maxSizeKB(), annotation.allowedTypes(),
+                annotation.detectContentType());
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+        // 字段值不是FileData类型时直接视为校验失败
+        if (!(value instanceof FileData)) {
+            return false;
+        }
+        FileData fd = (FileData) value;
+        // 按内容来源校验，磁盘文件和输入流不读入内存
+        return constraint.isValid(fd.getSource(), fd.getMimeType());
+    }
+
+    @Override
+    public int cost() {
+        // 输入流可能要读到大小上限才能判断，磁盘文件需要查询文件系统，识别内容类型还要读取文件头
+        return COST_EXPENSIVE;
+    }
+}
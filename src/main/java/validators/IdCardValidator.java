@@ -0,0 +1,39 @@
+package validators;
+
+import annotations.IdCard;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+/**
+ * 身份证号码格式校验器
+ * 对应注解：{@link IdCard}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：IdCardValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：IdCardValidator
+ */
+public class IdCardValidator implements ConstraintValidator<IdCard, String> {
+
+    /**
+     * 是否严格校验
+     */
+    private boolean strict;
+
+    @Override
+    public void initialize(IdCard annotation) {
+        this.strict = annotation.strict();
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidIdCard(value, strict);
+    }
+
+    @Override
+    public int cost() {
+        return COST_SCAN;
+    }
+}
@@ -0,0 +1,45 @@
+package validators;
+
+import annotations.Name;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+/**
+ * 姓名长度校验器
+ * 对应注解：{@link Name}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：NameValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：NameValidator
+ */
+public class NameValidator implements ConstraintValidator<Name, String> {
+
+    /**
+     * 最小长度
+     */
+    private int minLength;
+
+    /**
+     * 最大长度
+     */
+    private int maxLength;
+
+    @Override
+    public void initialize(Name annotation) {
+        this.minLength = annotation.minLength();
+        this.maxLength = annotation.maxLength();
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidName(value, minLength, maxLength);
+    }
+
+    @Override
+    public int cost() {
+        return COST_CHEAP;
+    }
+}
@@ -0,0 +1,46 @@
+package validators;
+
+import annotations.Password;
+import engine.ConstraintValidator;
+import utils.PasswordBlocklist;
+import utils.PasswordPolicy;
+
+/**
+ * 密码复杂度校验器
+ * 对应注解：{@link Password}
+ * 复杂度要求和特殊字符集合在初始化时编译为 {@link PasswordPolicy}，配置了黑名单时在复杂度校验通过后再查找黑名单
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：PasswordValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：PasswordValidator
+ */
+public class PasswordValidator implements ConstraintValidator<Password, String> {
+
+    /**
+     * 编译后的密码复杂度规则
+     */
+    private PasswordPolicy policy;
+
+    /**
+     * 已泄露密码黑名单，未配置时为null
+     */
+    private PasswordBlocklist blocklist;
+
+    @Override
+    public void initialize(Password annotation) {
+        this.policy = PasswordPolicy.compile(annotation.requireUppercase(), annotation.requireLowercase(),
+                annotation.requireDigit(), annotation.requireSpecial(),
+                annotation.minLength(), annotation.maxLength(), annotation.specialChars());
+        if (!annotation.blocklist().isEmpty()) {
+            this.blocklist = PasswordBlocklist.open(annotation.blocklist());
+        }
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return policy.isValid(value) && (blocklist == null || !blocklist.contains(value));
+    }
+}
@@ -0,0 +1,48 @@
+package validators;
+
+import annotations.Phone;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+import utils.PhoneCarrier;
+
+/**
+ * 手机号格式校验器
+ * 对应注解：{@link Phone}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：PhoneValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：PhoneValidator
+ */
+public class PhoneValidator implements ConstraintValidator<Phone, String> {
+
+    /**
+     * 允许的运营商位掩码，0 表示不检查号段
+     */
+    private int carriers;
+
+    @Override
+    public void initialize(Phone annotation) {
+        this.carriers = carrierMask(annotation);
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidPhone(value, carriers);
+    }
+
+    /**
+     * @param annotation 注解
+     * @return {@link FieldValidator#isValidPhone(String, int)} 使用的运营商位掩码
+     */
+    public static int carrierMask(Phone annotation) {
+        return annotation.strict() || annotation.carriers().length > 0 ? PhoneCarrier.mask(annotation.carriers()) : 0;
+    }
+
+    @Override
+    public int cost() {
+        return COST_SCAN;
+    }
+}
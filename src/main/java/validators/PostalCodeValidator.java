@@ -0,0 +1,29 @@
+package validators;
+
+import annotations.PostalCode;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+/**
+ * 邮政编码格式校验器
+ * 对应注解：{@link PostalCode}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：PostalCodeValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：PostalCodeValidator
+ */
+public class PostalCodeValidator implements ConstraintValidator<PostalCode, String> {
+
+    @Override
+    public boolean isValid(String value) {
+        return FieldValidator.isValidPostalCode(value);
+    }
+
+    @Override
+    public int cost() {
+        return COST_SCAN;
+    }
+}
@@ -0,0 +1,57 @@
+package validators;
+
+import annotations.Price;
+import engine.ConstraintValidator;
+import utils.PriceConstraint;
+
+import java.math.BigDecimal;
+
+/**
+ * 金额范围校验器
+ * 对应注解：{@link Price}
+ * 支持 BigDecimal 以及 int、long、double 类型的字段，基本类型字段不装箱
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：PriceValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：PriceValidator
+ */
+public class PriceValidator implements ConstraintValidator<Price, BigDecimal> {
+
+    /**
+     * 按注解编译好的金额范围约束，最小/最大值已转换为 BigDecimal
+     */
+    private PriceConstraint constraint;
+
+    @Override
+    public void initialize(Price annotation) {
+        this.constraint = PriceConstraint.compile(annotation.min(), annotation.max());
+    }
+
+    @Override
+    public boolean isValid(BigDecimal value) {
+        return constraint.isValid(value);
+    }
+
+    @Override
+    public boolean isValidInt(int value) {
+        return constraint.isValid((long) value);
+    }
+
+    @Override
+    public boolean isValidLong(long value) {
+        return constraint.isValid(value);
+    }
+
+    @Override
+    public boolean isValidDouble(double value) {
+        return constraint.isValid(value);
+    }
+
+    @Override
+    public int cost() {
+        return COST_CHEAP;
+    }
+}
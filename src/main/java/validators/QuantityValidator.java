@@ -0,0 +1,56 @@
+package validators;
+
+import annotations.Quantity;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+
+/**
+ * 数量范围校验器
+ * 对应注解：{@link Quantity}
+ * 支持 Integer 以及 int、long 类型的字段，基本类型字段不装箱
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：QuantityValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：QuantityValidator
+ */
+public class QuantityValidator implements ConstraintValidator<Quantity, Integer> {
+
+    /**
+     * 最小数量
+     */
+    private int min;
+
+    /**
+     * 最大数量
+     */
+    private int max;
+
+    @Override
+    public void initialize(Quantity annotation) {
+        this.min = annotation.min();
+        this.max = annotation.max();
+    }
+
+    @Override
+    public boolean isValid(Integer value) {
+        return FieldValidator.isValidQuantity(value, min, max);
+    }
+
+    @Override
+    public boolean isValidInt(int value) {
+        return FieldValidator.isValidQuantity(value, min, max);
+    }
+
+    @Override
+    public boolean isValidLong(long value) {
+        return FieldValidator.isValidQuantity(value, min, max);
+    }
+
+    @Override
+    public int cost() {
+        return COST_CHEAP;
+    }
+}
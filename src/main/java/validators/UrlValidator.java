@@ -0,0 +1,52 @@
+package validators;
+
+import annotations.Url;
+import engine.ConstraintValidator;
+import utils.FieldValidator;
+import utils.UrlConstraint;
+
+/**
+ * URL格式校验器
+ * 对应注解：{@link Url}
+ *
+ * @Author：zhangbaosheng
+ * @Package：validators
+ * @Project：validation-lib
+ * @name：UrlValidator
+ * @Date：2026/10/18 10:52
+ * @Filename：UrlValidator
+ */
+public class UrlValidator implements ConstraintValidator<Url, String> {
+
+    /**
+     * 编译后的协议和主机名规则，未配置时为null
+     */
+    private UrlConstraint constraint;
+
+    @Override
+    public void initialize(Url annotation) {
+        if (hasRules(annotation)) {
+            this.constraint = UrlConstraint.compile(annotation.allowedSchemes(), annotation.allowedHosts(),
+                    annotation.deniedHosts());
+        }
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return constraint == null ? FieldValidator.isValidUrl(value) : constraint.isValid(value);
+    }
+
+    /**
+     * @param annotation 注解
+     * @return 是否配置了协议或主机名规则
+     */
+    public static boolean hasRules(Url annotation) {
+        return annotation.allowedSchemes().length > 0 || annotation.allowedHosts().length > 0
+                || annotation.deniedHosts().length > 0;
+    }
+
+    @Override
+    public int cost() {
+        return COST_SCAN;
+    }
+}
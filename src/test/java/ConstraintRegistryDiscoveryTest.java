@@ -0,0 +1,189 @@
+import annotations.Email;
+import engine.ConstraintValidator;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ServiceLoader 发现校验器的容错测试
+ * 在独立的类加载器中加载引擎，配置文件中混入不存在的类、构造失败、静态初始化失败、无法解析注解类型
+ * 以及两个实现类对应同一注解的情况，检查注册表初始化不失败、正确的扩展校验器照常生效、冲突只影响使用该注解的类
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：ConstraintRegistryDiscoveryTest
+ * @Date：2026/10/19 10:20
+ * @Filename：ConstraintRegistryDiscoveryTest
+ */
+public class ConstraintRegistryDiscoveryTest {
+
+    private static int failures;
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Marker {
+        String message() default "编码不正确";
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Conflicted {
+    }
+
+    public static class MarkerValidator implements ConstraintValidator<Marker, String> {
+        @Override
+        public boolean isValid(String value) {
+            return "ok".equals(value);
+        }
+    }
+
+    public static class ThrowingValidator implements ConstraintValidator<Marker, String> {
+        public ThrowingValidator() {
+            throw new IllegalStateException("构造失败");
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return true;
+        }
+    }
+
+    public static class BrokenInitValidator implements ConstraintValidator<Marker, String> {
+        private static final int VALUE = fail();
+
+        private static int fail() {
+            throw new IllegalStateException("静态初始化失败");
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return VALUE > 0;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static class RawValidator implements ConstraintValidator {
+        @Override
+        public boolean isValid(Object value) {
+            return true;
+        }
+    }
+
+    public static class FirstConflictValidator implements ConstraintValidator<Conflicted, String> {
+        @Override
+        public boolean isValid(String value) {
+            return true;
+        }
+    }
+
+    public static class SecondConflictValidator implements ConstraintValidator<Conflicted, String> {
+        @Override
+        public boolean isValid(String value) {
+            return false;
+        }
+    }
+
+    public static class MarkedDTO {
+        @Marker
+        String code = "ok";
+
+        @Email
+        String email = "user@example.com";
+    }
+
+    public static class WrongCodeDTO {
+        @Marker
+        String code = "wrong";
+    }
+
+    public static class ConflictedDTO {
+        @Conflicted
+        String value = "x";
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== 扩展校验器发现测试 ===\n");
+
+        Path dir = Files.createTempDirectory("discovery");
+        Path services = dir.resolve("META-INF/services/engine.ConstraintValidator");
+        Files.createDirectories(services.getParent());
+        String prefix = ConstraintRegistryDiscoveryTest.class.getName() + "$";
+        Files.write(services, Arrays.asList(
+                "no.such.Validator",
+                prefix + "ThrowingValidator",
+                prefix + "BrokenInitValidator",
+                prefix + "RawValidator",
+                prefix + "MarkerValidator",
+                prefix + "FirstConflictValidator",
+                prefix + "SecondConflictValidator"), StandardCharsets.UTF_8);
+
+        // 父加载器为启动类加载器，引擎在新的加载器中重新初始化，不影响其他测试
+        URL[] urls = {
+                Paths.get("target/classes").toUri().toURL(),
+                Paths.get("target/test-classes").toUri().toURL(),
+                dir.toUri().toURL()
+        };
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(urls, null)) {
+            Thread.currentThread().setContextClassLoader(loader);
+
+            Class<?> registry = loader.loadClass("engine.ConstraintRegistry");
+            List<?> errors;
+            try {
+                errors = (List<?>) registry.getMethod("getDiscoveryErrors").invoke(null);
+            } catch (InvocationTargetException e) {
+                report("注册表初始化不因错误的扩展配置失败", false, String.valueOf(e.getCause()));
+                throw new AssertionError("扩展校验器发现测试失败", e.getCause());
+            }
+            report("注册表初始化不因错误的扩展配置失败", true, "");
+            report("出错的实现类全部被跳过并记录", errors.size() == 5, errors.size() + " 个问题");
+
+            Method isValid = loader.loadClass("engine.ValidatorEngine").getMethod("isValid", Object.class);
+            report("正确的扩展校验器照常生效",
+                    (Boolean) isValid.invoke(null, newInstance(loader, prefix + "MarkedDTO"))
+                            && !(Boolean) isValid.invoke(null, newInstance(loader, prefix + "WrongCodeDTO")), "");
+
+            boolean conflictFailed = false;
+            try {
+                isValid.invoke(null, newInstance(loader, prefix + "ConflictedDTO"));
+            } catch (InvocationTargetException e) {
+                conflictFailed = e.getCause() instanceof IllegalStateException;
+            }
+            report("冲突的注解只让使用它的类校验失败", conflictFailed, "");
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+            Files.delete(services);
+            Files.delete(services.getParent());
+            Files.delete(services.getParent().getParent());
+            Files.delete(dir);
+        }
+
+        if (failures > 0) {
+            throw new AssertionError("扩展校验器发现测试发现 " + failures + " 处错误");
+        }
+    }
+
+    private static Object newInstance(ClassLoader loader, String name) throws ReflectiveOperationException {
+        return loader.loadClass(name).getDeclaredConstructor().newInstance();
+    }
+
+    private static void report(String name, boolean passed, String detail) {
+        if (!passed) {
+            failures++;
+        }
+        System.out.println("  " + (passed ? "✓ " : "✗ ") + name + (detail.isEmpty() ? "" : "：" + detail));
+    }
+}
@@ -0,0 +1,182 @@
+import utils.DateTimeConstraint;
+import utils.FieldValidator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 日期时间校验差分测试
+ * 将标准格式的手写解析器（FieldValidator.isValidDateTime 及 DateTimeConstraint）与原先基于 java.time 的实现逐一比对，
+ * 覆盖闰年、各月天数、24:00:00、扩展年份等边界用例以及大量随机生成和变异的输入
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：DateTimeDifferentialTest
+ * @Date：2026/10/18 18:20
+ * @Filename：DateTimeDifferentialTest
+ */
+public class DateTimeDifferentialTest {
+
+    private static final String[] PATTERNS = {"yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss"};
+
+    /**
+     * 范围边界：无限制、常规范围、跨闰日的精确边界、无法解析的边界、扩展年份边界
+     */
+    private static final String[][] DATE_BOUNDS = {
+            {"", ""}, {"2020-01-01", "2030-12-31"}, {"2024-02-29", "2024-03-01"}, {"x", ""}, {"", "2025-02-30"},
+            {"+10000-01-01", ""}
+    };
+    private static final String[][] DATE_TIME_BOUNDS = {
+            {"", ""}, {"2020-01-01 00:00:00", "2030-12-31 23:59:59"}, {"2025-06-15 12:00:00", "2025-06-16 00:00:00"},
+            {"", "2025-06-15 24:00:00"}, {"2025-06-15", ""}, {"+10000-01-01 00:00:00", ""}
+    };
+
+    /**
+     * 变异时使用的字符：数字、分隔符、空白、符号以及全角数字等非ASCII字符
+     */
+    private static final char[] ALPHABET = {
+            '0', '1', '2', '3', '5', '9', '-', ':', ' ', '+', 'T', '/', '\t', ' ', '１', '٣', 'a'
+    };
+
+    private static final int RANDOM_CASES = 200_000;
+
+    private static int failures;
+
+    public static void main(String[] args) {
+        System.out.println("=== 日期时间校验差分测试 ===\n");
+
+        Random random = new Random(20261018L);
+        check(PATTERNS[0], DATE_BOUNDS, corpus(random, false));
+        check(PATTERNS[1], DATE_TIME_BOUNDS, corpus(random, true));
+
+        if (failures > 0) {
+            throw new AssertionError("差分测试发现 " + failures + " 处不一致");
+        }
+    }
+
+    private static void check(String pattern, String[][] bounds, List<String> inputs) {
+        int mismatches = 0;
+        int accepted = 0;
+        int total = 0;
+        for (String[] bound : bounds) {
+            DateTimeConstraint constraint = DateTimeConstraint.compile(pattern, bound[0], bound[1]);
+            for (String input : inputs) {
+                boolean expected = reference(input, pattern, bound[0], bound[1]);
+                boolean direct = FieldValidator.isValidDateTime(input, pattern, bound[0], bound[1]);
+                boolean compiled = constraint.isValid(input);
+                total++;
+                if (expected) {
+                    accepted++;
+                }
+                if (expected != direct || expected != compiled) {
+                    if (mismatches < 5) {
+                        System.out.println("    不一致: \"" + input + "\" 范围=" + Arrays.toString(bound)
+                                + " java.time=" + expected + " isValidDateTime=" + direct + " 预编译=" + compiled);
+                    }
+                    mismatches++;
+                }
+            }
+        }
+        failures += mismatches;
+        System.out.printf("  %s %s：%d 个输入（其中 %d 个合法），%d 处不一致%n",
+                mismatches == 0 ? "✓" : "✗", pattern, total, accepted, mismatches);
+    }
+
+    /**
+     * 原先基于 java.time 的实现，作为比对基准
+     */
+    private static boolean reference(String dateTime, String pattern, String min, String max) {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            LocalDateTime dt = parse(dateTime, pattern, formatter);
+            if (!min.isEmpty() && dt.isBefore(parse(min, pattern, formatter))) {
+                return false;
+            }
+            return max.isEmpty() || !dt.isAfter(parse(max, pattern, formatter));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static LocalDateTime parse(String date, String pattern, DateTimeFormatter formatter) {
+        boolean hasTime = pattern.contains("H") || pattern.contains("m") || pattern.contains("s");
+        return hasTime ? LocalDateTime.parse(date, formatter) : LocalDate.parse(date, formatter).atStartOfDay();
+    }
+
+    /**
+     * 构造测试输入：手工边界用例 + 随机生成的各字段取值（含越界值）+ 随机变异
+     */
+    private static List<String> corpus(Random random, boolean hasTime) {
+        List<String> inputs = new ArrayList<>(Arrays.asList(
+                "", "2025-06-15", "2025-6-15", "2025-06-15 ", " 2025-06-15", "2025/06/15", "20250615",
+                "2024-02-29", "2025-02-29", "2100-02-29", "2000-02-29", "2025-02-30", "2025-02-31", "2025-02-32",
+                "2025-04-31", "2025-13-01", "2025-00-10", "2025-06-00", "0000-01-01", "0001-01-01", "9999-12-31",
+                "+2025-06-15", "+12025-06-15", "12025-06-15", "-2025-06-15", "+0000-01-01",
+                "2025-06-15 14:30:25", "2025-06-15 24:00:00", "2025-12-31 24:00:00", "2025-02-30 24:00:00",
+                "2024-02-29 24:00:00", "9999-12-31 24:00:00", "2025-06-15 24:00:01", "2025-06-15 23:59:60",
+                "2025-06-15 23:60:00", "2025-06-15T14:30:25", "2025-06-15 14:30", "+12025-06-15 00:00:00",
+                "2030-12-31 23:59:59", "2030-12-31 24:00:00", "2019-12-31 23:59:59"
+        ));
+        for (int i = 0; i < RANDOM_CASES; i++) {
+            String value = randomDateTime(random, hasTime);
+            inputs.add(random.nextInt(4) == 0 ? mutate(value, random) : value);
+        }
+        return inputs;
+    }
+
+    /**
+     * 随机生成日期时间字符串，各字段在合法范围附近取值，少量输入使用扩展年份
+     */
+    private static String randomDateTime(Random random, boolean hasTime) {
+        int yearKind = random.nextInt(20);
+        String year;
+        if (yearKind == 0) {
+            year = "+" + (10000 + random.nextInt(90000));
+        } else if (yearKind == 1) {
+            year = String.format("%04d", random.nextInt(3));
+        } else {
+            year = String.format("%04d", 2016 + random.nextInt(20));
+        }
+        String value = year + "-" + twoDigits(random.nextInt(14)) + "-" + twoDigits(random.nextInt(33));
+        if (hasTime) {
+            value += " " + twoDigits(random.nextInt(8) == 0 ? 24 : random.nextInt(25))
+                    + ":" + twoDigits(random.nextInt(4) == 0 ? 0 : random.nextInt(61))
+                    + ":" + twoDigits(random.nextInt(4) == 0 ? 0 : random.nextInt(61));
+        }
+        return value;
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    /**
+     * 对输入做一次随机替换、插入或删除
+     */
+    private static String mutate(String value, Random random) {
+        StringBuilder sb = new StringBuilder(value);
+        int pos = random.nextInt(sb.length() + 1);
+        char c = ALPHABET[random.nextInt(ALPHABET.length)];
+        switch (random.nextInt(3)) {
+            case 0:
+                sb.insert(pos, c);
+                break;
+            case 1:
+                if (pos < sb.length()) {
+                    sb.deleteCharAt(pos);
+                }
+                break;
+            default:
+                if (pos < sb.length()) {
+                    sb.setCharAt(pos, c);
+                }
+        }
+        return sb.toString();
+    }
+}
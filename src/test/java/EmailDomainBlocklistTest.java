@@ -0,0 +1,179 @@
+import utils.EmailDomainBlocklist;
+import utils.EmailDomainBlocklistBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 邮箱域名黑名单测试
+ * 用随机域名列表生成黑名单文件，与基于 HashSet 逐级截取上级域名的实现比对，
+ * 检查子域名匹配、大小写、输入行格式，以及文件与直接缓冲区构建的黑名单结果一致
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：EmailDomainBlocklistTest
+ * @Date：2026/10/18 23:10
+ * @Filename：EmailDomainBlocklistTest
+ */
+public class EmailDomainBlocklistTest {
+
+    private static final int DOMAINS = 200_000;
+
+    private static final String[] SUFFIXES = {"com", "net", "org", "cn", "com.cn", "io", "中国"};
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== 邮箱域名黑名单测试 ===\n");
+        Random random = new Random(20261018L);
+
+        Path dir = Files.createTempDirectory("email-blocklist");
+        try {
+            Set<String> domains = new HashSet<>();
+            while (domains.size() < DOMAINS) {
+                domains.add(randomDomain(random));
+            }
+            // 同一域名的不同写法在生成时去重
+            List<String> lines = new ArrayList<>(domains);
+            lines.add("# 注释");
+            lines.add("");
+            lines.add("  *.Wildcard.Example  ");
+            lines.add(".dot.example.");
+            lines.add("WILDCARD.example");
+            Path input = dir.resolve("domains.txt");
+            Files.write(input, lines, StandardCharsets.UTF_8);
+            Path output = dir.resolve("domains.bin");
+            long count = EmailDomainBlocklistBuilder.build(input, output);
+            report("去重后的域名数", count == DOMAINS + 2, count + " 个");
+
+            domains.add("wildcard.example");
+            domains.add("dot.example");
+            EmailDomainBlocklist blocklist = EmailDomainBlocklist.open(output);
+            EmailDomainBlocklist inMemory = EmailDomainBlocklist.of(lines);
+            report("直接缓冲区构建的域名数", inMemory.size() == count, inMemory.size() + " 个");
+
+            List<String> probes = new ArrayList<>(Arrays.asList(
+                    "", ".", "com", "a.wildcard.example", "Mail.WILDCARD.example.", "wildcard.example.",
+                    "xwildcard.example", "wildcard.example.com", "a..dot.example", "dot.example..", "@"));
+            for (String domain : domains) {
+                if (probes.size() > DOMAINS) {
+                    break;
+                }
+                probes.add(domain);
+                probes.add("mail." + domain.toUpperCase(Locale.ROOT));
+                probes.add("x" + domain);
+            }
+            while (probes.size() < 3 * DOMAINS) {
+                probes.add(randomDomain(random));
+            }
+            int mismatches = 0;
+            int blocked = 0;
+            for (String domain : probes) {
+                boolean expected = reference(domains, domain);
+                if (expected) {
+                    blocked++;
+                }
+                if (blocklist.containsDomain(domain) != expected || inMemory.containsDomain(domain) != expected
+                        || blocklist.blocks("user@" + domain) != (expected || domain.indexOf('@') >= 0)) {
+                    if (mismatches < 5) {
+                        System.out.println("    不一致: " + domain + " 参考实现=" + expected);
+                    }
+                    mismatches++;
+                }
+            }
+            report("与 HashSet 实现一致", mismatches == 0,
+                    probes.size() + " 个域名（其中 " + blocked + " 个被屏蔽），" + mismatches + " 处不一致");
+            report("null 和不含 @ 的地址不命中", !blocklist.blocks(null) && !blocklist.blocks("wildcard.example")
+                    && !blocklist.containsDomain(null), "");
+            // 多个 @ 时按最后一个 @ 取域名，并且一律屏蔽，不能通过在域名前加前缀绕过
+            report("多个 @ 的地址不能绕过黑名单", blocklist.blocks("u@x@wildcard.example")
+                    && blocklist.blocks("u@wildcard.example@x.example") && inMemory.blocks("a@b@c.unlisted")
+                    && !blocklist.blocks("u@unlisted.example"), "");
+            report("同一文件只映射一次", EmailDomainBlocklist.open(output) == blocklist, "");
+
+            Path empty = dir.resolve("empty.txt");
+            Files.write(empty, new byte[0]);
+            Path emptyOut = dir.resolve("empty.bin");
+            EmailDomainBlocklistBuilder.build(empty, emptyOut);
+            EmailDomainBlocklist emptyList = EmailDomainBlocklist.open(emptyOut);
+            report("空黑名单", emptyList.size() == 0 && !emptyList.blocks("a@example.com"), "");
+
+            Path broken = dir.resolve("broken.bin");
+            Files.write(broken, new byte[64]);
+            boolean rejected = false;
+            try {
+                EmailDomainBlocklist.open(broken);
+            } catch (IOException e) {
+                rejected = true;
+            }
+            report("格式不正确的文件被拒绝", rejected, "");
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+
+        if (failures > 0) {
+            throw new AssertionError("邮箱域名黑名单测试发现 " + failures + " 处错误");
+        }
+    }
+
+    /**
+     * 逐级截取上级域名查找 HashSet，ASCII 字母不区分大小写
+     */
+    private static boolean reference(Set<String> domains, String domain) {
+        String lower = domain.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".")) {
+            lower = lower.substring(0, lower.length() - 1);
+        }
+        while (!lower.isEmpty()) {
+            if (domains.contains(lower)) {
+                return true;
+            }
+            int dot = lower.indexOf('.');
+            if (dot < 0) {
+                return false;
+            }
+            lower = lower.substring(dot + 1);
+        }
+        return false;
+    }
+
+    /**
+     * 随机域名：1-3 级小写标签加常见后缀
+     */
+    private static String randomDomain(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int labels = 1 + random.nextInt(3);
+        for (int i = 0; i < labels; i++) {
+            int length = 1 + random.nextInt(10);
+            for (int j = 0; j < length; j++) {
+                int kind = random.nextInt(30);
+                sb.append(kind == 0 ? '-' : kind < 4 ? (char) ('0' + random.nextInt(10)) : (char) ('a' + random.nextInt(26)));
+            }
+            sb.append('.');
+        }
+        return sb.append(SUFFIXES[random.nextInt(SUFFIXES.length)]).toString();
+    }
+
+    private static void report(String name, boolean passed, String detail) {
+        if (!passed) {
+            failures++;
+        }
+        System.out.println("  " + (passed ? "✓ " : "✗ ") + name + (detail.isEmpty() ? "" : "：" + detail));
+    }
+}
@@ -0,0 +1,204 @@
+import utils.PasswordBlocklist;
+import utils.PasswordBlocklistBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 密码黑名单测试
+ * 将复用缓冲区编码计算的 SHA-1 前缀与 String.getBytes(UTF_8) + MessageDigest 的结果比对，并用随机字典生成黑名单文件，
+ * 检查字典中的密码全部命中、字典外的密码全部不命中，明文字典与 SHA-1 哈希列表生成的文件一致
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：PasswordBlocklistTest
+ * @Date：2026/10/18 21:40
+ * @Filename：PasswordBlocklistTest
+ */
+public class PasswordBlocklistTest {
+
+    private static final int WORDS = 200_000;
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== 密码黑名单测试 ===\n");
+        Random random = new Random(20261018L);
+
+        List<String> inputs = new ArrayList<>();
+        inputs.add("");
+        inputs.add("中文密码");
+        inputs.add("😀\uD83D");
+        inputs.add("\uDE00x");
+        StringBuilder longest = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            longest.append((char) ('a' + i % 26));
+            inputs.add(longest.toString());
+        }
+        for (int i = 0; i < 100_000; i++) {
+            inputs.add(randomWord(random));
+        }
+        checkHash(inputs);
+
+        Path dir = Files.createTempDirectory("blocklist");
+        try {
+            Set<String> words = new HashSet<>();
+            while (words.size() < WORDS) {
+                words.add(randomWord(random));
+            }
+            Path plain = dir.resolve("words.txt");
+            Files.write(plain, words, StandardCharsets.UTF_8);
+            Path plainOut = dir.resolve("plain.bin");
+            long count = PasswordBlocklistBuilder.build(plain, plainOut, false);
+            report("明文字典去重后的记录数", count == WORDS, count + " 条");
+
+            // Have I Been Pwned 格式：大写十六进制 SHA-1 + ":" + 次数
+            List<String> hashes = new ArrayList<>();
+            for (String word : words) {
+                hashes.add(hex(sha1(word)) + ":" + (1 + random.nextInt(1000)));
+            }
+            Path sha1 = dir.resolve("hashes.txt");
+            Files.write(sha1, hashes, StandardCharsets.UTF_8);
+            Path sha1Out = dir.resolve("sha1.bin");
+            PasswordBlocklistBuilder.build(sha1, sha1Out, true);
+            report("明文字典与 SHA-1 列表生成的文件相同",
+                    Arrays.equals(Files.readAllBytes(plainOut), Files.readAllBytes(sha1Out)), "");
+
+            // 重复出现的密码分散在多个数据块中，归并去重后与只出现一次时生成的文件相同
+            List<String> repeated = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                repeated.addAll(words);
+            }
+            Collections.shuffle(repeated, random);
+            Path multi = dir.resolve("repeated.txt");
+            Files.write(multi, repeated, StandardCharsets.UTF_8);
+            Path multiOut = dir.resolve("repeated.bin");
+            PasswordBlocklistBuilder.build(multi, multiOut, false);
+            report("跨数据块去重后生成的文件相同", Arrays.equals(Files.readAllBytes(plainOut), Files.readAllBytes(multiOut)),
+                    repeated.size() + " 行");
+
+            PasswordBlocklist blocklist = PasswordBlocklist.open(plainOut);
+            int missed = 0;
+            for (String word : words) {
+                if (!blocklist.contains(word)) {
+                    missed++;
+                }
+            }
+            report("字典中的密码全部命中", missed == 0, missed + " 个未命中");
+
+            int falsePositives = 0;
+            int probes = 0;
+            while (probes < WORDS) {
+                String word = randomWord(random);
+                if (!words.contains(word)) {
+                    probes++;
+                    if (blocklist.contains(word)) {
+                        falsePositives++;
+                    }
+                }
+            }
+            report("字典外的密码全部不命中", falsePositives == 0, falsePositives + " 个误判");
+            report("null 不命中", !blocklist.contains(null), "");
+            report("同一文件只映射一次", PasswordBlocklist.open(plainOut) == blocklist, "");
+
+            Path empty = dir.resolve("empty.txt");
+            Files.write(empty, new byte[0]);
+            Path emptyOut = dir.resolve("empty.bin");
+            PasswordBlocklistBuilder.build(empty, emptyOut, false);
+            PasswordBlocklist emptyList = PasswordBlocklist.open(emptyOut);
+            report("空黑名单", emptyList.size() == 0 && !emptyList.contains("password"), "");
+
+            Path broken = dir.resolve("broken.bin");
+            Files.write(broken, new byte[64]);
+            boolean rejected = false;
+            try {
+                PasswordBlocklist.open(broken);
+            } catch (IOException e) {
+                rejected = true;
+            }
+            report("格式不正确的文件被拒绝", rejected, "");
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+
+        if (failures > 0) {
+            throw new AssertionError("密码黑名单测试发现 " + failures + " 处错误");
+        }
+    }
+
+    /**
+     * 比对 SHA-1 前缀与 MessageDigest 的结果
+     */
+    private static void checkHash(List<String> inputs) throws NoSuchAlgorithmException {
+        int mismatches = 0;
+        for (String input : inputs) {
+            byte[] digest = sha1(input);
+            long expected = 0;
+            for (int i = 0; i < 8; i++) {
+                expected = (expected << 8) | (digest[i] & 0xFF);
+            }
+            if (PasswordBlocklist.hash(input) != expected) {
+                mismatches++;
+            }
+        }
+        report("SHA-1 前缀与 MessageDigest 一致", mismatches == 0, inputs.size() + " 个输入，" + mismatches + " 处不一致");
+    }
+
+    private static byte[] sha1(String input) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-1").digest(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02X", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 随机密码：ASCII 字母数字符号为主，偶尔夹杂中文和代理对
+     */
+    private static String randomWord(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 1 + random.nextInt(16);
+        for (int i = 0; i < length; i++) {
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                sb.append((char) (0x4E00 + random.nextInt(0x5000)));
+            } else if (kind == 1) {
+                sb.append("😀");
+            } else if (kind == 2) {
+                sb.append((char) (0x80 + random.nextInt(0x700)));
+            } else {
+                sb.append((char) (0x21 + random.nextInt(0x5E)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void report(String name, boolean passed, String detail) {
+        if (!passed) {
+            failures++;
+        }
+        System.out.println("  " + (passed ? "✓ " : "✗ ") + name + (detail.isEmpty() ? "" : "：" + detail));
+    }
+}
@@ -0,0 +1,209 @@
+import engine.BytecodeValidatorEngine;
+import engine.FileData;
+import engine.ValidatorEngine;
+import exceptions.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 校验引擎性能基准
+ * 使用与 ValidationTest 相同的 UserDTO 结构，分别测量校验通过和校验失败两种场景的单次耗时，
+ * 并对比反射计划模式（ValidatorEngine）与字节码生成模式（BytecodeValidatorEngine）
+ * 直接运行 main 方法即可，无需额外依赖
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：ValidationBenchmark
+ * @Date：2026/10/18 10:12
+ * @Filename：ValidationBenchmark
+ */
+public class ValidationBenchmark {
+
+    /**
+     * 预热轮数
+     */
+    private static final int WARMUP_ROUNDS = 5;
+
+    /**
+     * 正式测量轮数
+     */
+    private static final int MEASURE_ROUNDS = 5;
+
+    /**
+     * 每轮调用次数
+     */
+    private static final int OPS_PER_ROUND = 200_000;
+
+    /**
+     * 批量场景的元素数量
+     */
+    private static final int BATCH_SIZE = 200_000;
+
+    /**
+     * 防止 JIT 消除无用计算
+     */
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        System.out.println("=== 校验引擎性能基准 ===\n");
+
+        ValidationTest.UserDTO valid = createValidUser();
+        ValidationTest.UserDTO invalid = createInvalidUser();
+
+        report("validate(有效对象)", () -> validateQuietly(valid));
+        report("validate(无效对象)", () -> validateQuietly(invalid));
+        report("字节码 validate(有效对象)", () -> validateGeneratedQuietly(valid));
+        report("字节码 validate(无效对象)", () -> validateGeneratedQuietly(invalid));
+        report("isValid(有效对象)", () -> blackhole += ValidatorEngine.isValid(valid) ? 1 : 0);
+        report("isValid(无效对象)", () -> blackhole += ValidatorEngine.isValid(invalid) ? 1 : 0);
+        report("check(有效对象)", () -> blackhole += ValidatorEngine.check(valid).getErrors().size());
+        report("check(无效对象)", () -> blackhole += ValidatorEngine.check(invalid).getErrors().size());
+
+        List<ValidationTest.UserDTO> batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(i % 4 == 0 ? invalid : valid);
+        }
+        reportBatch("逐个 check(批量)", () -> {
+            for (ValidationTest.UserDTO user : batch) {
+                blackhole += ValidatorEngine.check(user).getErrors().size();
+            }
+        });
+        reportBatch("validateAll(批量)", () -> blackhole += ValidatorEngine.validateAll(batch).size());
+    }
+
+    /**
+     * 批量场景的测量，输出平均每个元素的耗时
+     *
+     * @param name 场景名称
+     * @param op   对整批数据执行一次的操作
+     */
+    private static void reportBatch(String name, Runnable op) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            op.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            op.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("  %-28s 最快 %8.1f ns/元素%n", name, (double) best / BATCH_SIZE);
+    }
+
+    /**
+     * 执行预热和测量，并输出平均每次调用耗时
+     *
+     * @param name 场景名称
+     * @param op   被测操作
+     */
+    static void report(String name, Runnable op) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(op);
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long elapsed = run(op);
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+        System.out.printf("  %-28s 平均 %8.1f ns/op, 最快 %8.1f ns/op%n", name,
+                (double) total / MEASURE_ROUNDS / OPS_PER_ROUND,
+                (double) best / OPS_PER_ROUND);
+    }
+
+    /**
+     * 执行一轮测量
+     *
+     * @param op 被测操作
+     * @return 本轮耗时（纳秒）
+     */
+    private static long run(Runnable op) {
+        long start = System.nanoTime();
+        for (int i = 0; i < OPS_PER_ROUND; i++) {
+            op.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 调用校验引擎，吞掉校验异常但记录错误数量
+     *
+     * @param target 被校验对象
+     */
+    private static void validateQuietly(Object target) {
+        try {
+            ValidatorEngine.validate(target);
+            blackhole++;
+        } catch (ValidationException e) {
+            blackhole += e.getErrors().size();
+        }
+    }
+
+    /**
+     * 调用字节码生成模式的校验引擎，吞掉校验异常但记录错误数量
+     *
+     * @param target 被校验对象
+     */
+    private static void validateGeneratedQuietly(Object target) {
+        try {
+            BytecodeValidatorEngine.validate(target);
+            blackhole++;
+        } catch (ValidationException e) {
+            blackhole += e.getErrors().size();
+        }
+    }
+
+    /**
+     * 创建全部字段合法的用户对象
+     *
+     * @return 有效的UserDTO对象
+     */
+    static ValidationTest.UserDTO createValidUser() {
+        ValidationTest.UserDTO user = new ValidationTest.UserDTO();
+        user.setEmail("test@example.com");
+        user.setPhone("13812345678");
+        user.setIdCard("110101199003072118");
+        user.setPrice(new BigDecimal("999.99"));
+        user.setQty(50);
+        user.setPost("100000");
+        user.setName("张三");
+        user.setAddress("北京市朝阳区某某街道123号");
+        user.setNumberField(new BigDecimal("12345.67"));
+        user.setRegDate("2025-06-15");
+        user.setCreateTime("2025-06-15 14:30:25");
+        user.setWebsite("https://www.example.com");
+        user.setAvatar(new FileData(new byte[5 * 1024], "image/png"));
+        user.setPassword("MyPass123");
+        user.setGender(ValidationTest.Gender.MALE);
+        return user;
+    }
+
+    /**
+     * 创建全部字段非法的用户对象
+     *
+     * @return 无效的UserDTO对象
+     */
+    static ValidationTest.UserDTO createInvalidUser() {
+        ValidationTest.UserDTO user = new ValidationTest.UserDTO();
+        user.setEmail("invalid-email");
+        user.setPhone("12345");
+        user.setIdCard("12345");
+        user.setPrice(new BigDecimal("-10.00"));
+        user.setQty(150);
+        user.setPost("1234");
+        user.setName("A");
+        user.setAddress("短");
+        user.setNumberField(new BigDecimal("1234567.8901"));
+        user.setRegDate("2019-01-01");
+        user.setCreateTime("invalid-datetime");
+        user.setWebsite("not-a-url");
+        user.setAvatar(new FileData(new byte[15 * 1024], "image/jpeg"));
+        user.setPassword("123");
+        user.setGender(null);
+        return user;
+    }
+}
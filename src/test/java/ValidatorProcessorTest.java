@@ -0,0 +1,377 @@
+import engine.GeneratedValidator;
+import engine.ValidatorEngine;
+import utils.EmailDomainBlocklistBuilder;
+import utils.PasswordBlocklistBuilder;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 编译期注解处理器测试
+ * 用系统编译器编译 validation-processor 及一个示例 DTO，检查生成的 XxxValidator 与反射校验计划对同一输入给出相同的错误列表。
+ * 示例覆盖基本类型字段（long/int 的 @Quantity、@EnumValue，double 的 @Price）、黑名单常量、
+ * LocalDate 字段的 @DateTime、通过 getter 读取的私有字段、嵌套类的 Outer_Inner 命名以及无法生成时的回退。
+ * 运行环境没有系统编译器（只有 JRE）或找不到处理器源码时跳过
+ *
+ * @Author：zhangbaosheng
+ * @Package：PACKAGE_NAME
+ * @Project：validation-lib
+ * @name：ValidatorProcessorTest
+ * @Date：2026/10/19 15:30
+ * @Filename：ValidatorProcessorTest
+ */
+public class ValidatorProcessorTest {
+
+    private static final String PROCESSOR = "processor.ValidatorProcessor";
+
+    /**
+     * 示例 DTO 中带校验注解的类，嵌套类使用二进制名称
+     */
+    private static final String[] GENERATED_TYPES = {"sample.SampleDTO", "sample.SampleDTO$Inner"};
+
+    /**
+     * 私有字段没有 getter、不会生成校验类的示例
+     */
+    private static final String SKIPPED_TYPE = "sample.SampleDTO$Hidden";
+
+    /**
+     * 每个示例类提供的输入：全部合法、全部非法、字段均为默认值
+     */
+    private static final String[] FACTORIES = {"valid", "invalid", "empty"};
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== 编译期注解处理器测试 ===\n");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            System.out.println("  - 当前运行环境没有系统编译器，跳过");
+            return;
+        }
+        Path testClasses = Paths.get(ValidatorProcessorTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path processorSource = testClasses.getParent().getParent().resolve("validation-processor/src/main/java");
+        if (!Files.isDirectory(processorSource)) {
+            System.out.println("  - 找不到处理器源码 " + processorSource + "，跳过");
+            return;
+        }
+
+        Path work = Files.createTempDirectory("processor-test");
+        try {
+            run(compiler, processorSource, work);
+        } finally {
+            try (Stream<Path> files = Files.walk(work)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        if (failures > 0) {
+            throw new AssertionError("编译期注解处理器测试发现 " + failures + " 处错误");
+        }
+    }
+
+    private static void run(JavaCompiler compiler, Path processorSource, Path work) throws Exception {
+        String classPath = System.getProperty("java.class.path");
+
+        // 处理器本身
+        Path processorClasses = Files.createDirectories(work.resolve("processor"));
+        List<Path> processorFiles;
+        try (Stream<Path> files = Files.walk(processorSource)) {
+            processorFiles = files.filter(file -> file.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+        compile(compiler, processorFiles, null, "-proc:none", "-d", processorClasses.toString());
+
+        // 示例 DTO 引用的黑名单文件
+        Path emailBlocklist = work.resolve("email-blocklist.bin");
+        Path passwordBlocklist = work.resolve("password-blocklist.bin");
+        Path domains = Files.write(work.resolve("domains.txt"), Arrays.asList("mailinator.com", "*.tempmail.dev"));
+        Path words = Files.write(work.resolve("words.txt"), Arrays.asList("Password123", "Qwerty2024"));
+        EmailDomainBlocklistBuilder.build(domains, emailBlocklist);
+        PasswordBlocklistBuilder.build(words, passwordBlocklist, false);
+
+        Path sample = work.resolve("src/sample/SampleDTO.java");
+        Files.createDirectories(sample.getParent());
+        Files.write(sample, sampleSource(emailBlocklist, passwordBlocklist).getBytes(StandardCharsets.UTF_8));
+
+        // 启用处理器编译一次，不启用处理器再编译一次作为反射校验的对照
+        Path generatedSources = Files.createDirectories(work.resolve("generated"));
+        Path generatedClasses = Files.createDirectories(work.resolve("with-processor"));
+        Path plainClasses = Files.createDirectories(work.resolve("without-processor"));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean compiled = compile(compiler, Arrays.asList(sample), diagnostics, "-classpath", classPath,
+                "-processorpath", processorClasses.toString(), "-processor", PROCESSOR,
+                "-s", generatedSources.toString(),
+                "-d", generatedClasses.toString());
+        report("启用处理器编译示例 DTO", compiled, "");
+        compile(compiler, Arrays.asList(sample), null, "-classpath", classPath, "-proc:none",
+                "-d", plainClasses.toString());
+        if (!compiled) {
+            return;
+        }
+
+        ClassLoader parent = ValidatorProcessorTest.class.getClassLoader();
+        try (URLClassLoader generated = new URLClassLoader(new URL[]{generatedClasses.toUri().toURL()}, parent);
+             URLClassLoader plain = new URLClassLoader(new URL[]{plainClasses.toUri().toURL()}, parent)) {
+            for (String type : GENERATED_TYPES) {
+                String validatorName = type.replace('$', '_') + "Validator";
+                Class<?> validatorClass;
+                try {
+                    validatorClass = generated.loadClass(validatorName);
+                } catch (ClassNotFoundException e) {
+                    report("生成 " + validatorName, false, "没有生成校验类");
+                    continue;
+                }
+                report("生成 " + validatorName, GeneratedValidator.class.isAssignableFrom(validatorClass), "");
+                GeneratedValidator validator = (GeneratedValidator) validatorClass.getDeclaredConstructor().newInstance();
+                for (String factory : FACTORIES) {
+                    List<String> actual = new ArrayList<>();
+                    validator.validate(create(generated, type, factory), actual);
+                    List<String> expected = ValidatorEngine.check(create(plain, type, factory)).getErrors();
+                    List<String> viaEngine = ValidatorEngine.check(create(generated, type, factory)).getErrors();
+                    report(type + "." + factory + "() 的错误与反射校验一致",
+                            actual.equals(expected) && viaEngine.equals(expected)
+                                    && factory.equals("valid") == expected.isEmpty(),
+                            actual.equals(expected) && viaEngine.equals(expected)
+                                    ? expected.size() + " 条错误" : actual + " / " + expected);
+                }
+            }
+
+            // 私有字段没有 getter：不生成校验类，给出提示，运行时回退为反射校验
+            boolean skipped;
+            try {
+                generated.loadClass(SKIPPED_TYPE.replace('$', '_') + "Validator");
+                skipped = false;
+            } catch (ClassNotFoundException e) {
+                skipped = true;
+            }
+        boolean noted = diagnostics.getDiagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.NOTE
+                    && d.getMessage(null).contains("nickname"));
+            List<String> fallback = ValidatorEngine.check(create(generated, SKIPPED_TYPE, "invalid")).getErrors();
+            report("无法生成时给出提示并回退为反射校验",
+                    skipped && noted && fallback.equals(ValidatorEngine.check(create(plain, SKIPPED_TYPE, "invalid")).getErrors())
+                            && fallback.size() == 1, fallback.toString());
+        }
+    }
+
+    /**
+     * 编译源文件
+     *
+     * @return 是否编译成功
+     */
+    private static boolean compile(JavaCompiler compiler, List<Path> sources, DiagnosticCollector<JavaFileObject> diagnostics,
+                                   String... options) throws IOException {
+        List<String> arguments = new ArrayList<>(Arrays.asList("-encoding", "UTF-8"));
+        arguments.addAll(Arrays.asList(options));
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<File> sourceFiles = sources.stream().map(Path::toFile).collect(Collectors.toList());
+            return compiler.getTask(null, files, diagnostics, arguments, null,
+                    files.getJavaFileObjectsFromFiles(sourceFiles)).call();
+        }
+    }
+
+    private static Object create(ClassLoader loader, String type, String factory) throws ReflectiveOperationException {
+        return loader.loadClass(type).getMethod(factory).invoke(null);
+    }
+
+    /**
+     * 示例 DTO 的源码，黑名单文件路径在测试运行时确定
+     */
+    private static String sampleSource(Path emailBlocklist, Path passwordBlocklist) {
+        return String.join("\n",
+                "package sample;",
+                "",
+                "import annotations.*;",
+                "import engine.FileData;",
+                "",
+                "import java.math.BigDecimal;",
+                "import java.time.LocalDate;",
+                "",
+                "public class SampleDTO {",
+                "",
+                "    public enum Level {",
+                "        LOW(10), HIGH(20);",
+                "",
+                "        private final int code;",
+                "",
+                "        Level(int code) {",
+                "            this.code = code;",
+                "        }",
+                "",
+                "        public int getCode() {",
+                "            return code;",
+                "        }",
+                "    }",
+                "",
+                "    @Email(blocklist = " + quote(emailBlocklist) + ", message = \"邮箱无效\")",
+                "    String email;",
+                "",
+                "    @Phone(strict = true, message = \"手机号段未分配\")",
+                "    String phone;",
+                "",
+                "    @Quantity(min = 1, max = 10, message = \"数量超出范围\")",
+                "    long count;",
+                "",
+                "    @Quantity(min = 1, max = 10, message = \"件数超出范围\")",
+                "    int pieces;",
+                "",
+                "    @Price(min = 0.01, max = 100, message = \"价格超出范围\")",
+                "    double price;",
+                "",
+                "    @EnumValue(enumClass = Level.class, match = EnumValue.Match.ORDINAL, message = \"等级序号无效\")",
+                "    int levelOrdinal;",
+                "",
+                "    @EnumValue(enumClass = Level.class, match = EnumValue.Match.CODE, message = \"等级编码无效\")",
+                "    long levelCode;",
+                "",
+                "    @EnumValue(enumClass = Level.class, message = \"等级名称无效\")",
+                "    String levelName;",
+                "",
+                "    @DateTime(min = \"2020-01-01\", max = \"2030-12-31\", message = \"日期超出范围\")",
+                "    LocalDate day;",
+                "",
+                "    @DateTime(pattern = \"yyyy/MM/dd\", message = \"日期格式不正确\")",
+                "    String customDay;",
+                "",
+                "    @Password(requireSpecial = false, blocklist = " + quote(passwordBlocklist) + ", message = \"密码无效\")",
+                "    private String password;",
+                "",
+                "    @Name(minLength = 2, maxLength = 4, message = \"姓名长度不正确\")",
+                "    private String name;",
+                "",
+                "    @Url(allowedSchemes = \"https\", deniedHosts = \"localhost\", message = \"地址无效\")",
+                "    String website;",
+                "",
+                "    @Decimal(integerPart = 3, fractionPart = 1, message = \"小数位数不正确\")",
+                "    BigDecimal amount;",
+                "",
+                "    @FileConstraint(maxSizeKB = 1, allowedTypes = \"image/png\", message = \"文件无效\")",
+                "    FileData file;",
+                "",
+                "    public String getPassword() {",
+                "        return password;",
+                "    }",
+                "",
+                "    public String getName() {",
+                "        return name;",
+                "    }",
+                "",
+                "    public static SampleDTO valid() {",
+                "        SampleDTO dto = new SampleDTO();",
+                "        dto.email = \"user@example.com\";",
+                "        dto.phone = \"13812345678\";",
+                "        dto.count = 10;",
+                "        dto.pieces = 1;",
+                "        dto.price = 99.5;",
+                "        dto.levelOrdinal = 1;",
+                "        dto.levelCode = 20;",
+                "        dto.levelName = \"LOW\";",
+                "        dto.day = LocalDate.of(2025, 6, 15);",
+                "        dto.customDay = \"2025/06/15\";",
+                "        dto.password = \"MyPass123\";",
+                "        dto.name = \"张三\";",
+                "        dto.website = \"https://example.com/\";",
+                "        dto.amount = new BigDecimal(\"123.4\");",
+                "        dto.file = new FileData(new byte[512], \"image/png\");",
+                "        return dto;",
+                "    }",
+                "",
+                "    public static SampleDTO invalid() {",
+                "        SampleDTO dto = new SampleDTO();",
+                "        dto.email = \"user@x.tempmail.dev\";",
+                "        dto.phone = \"10012345678\";",
+                "        dto.count = 11L + Integer.MAX_VALUE;",
+                "        dto.pieces = 0;",
+                "        dto.price = 100.01;",
+                "        dto.levelOrdinal = 2;",
+                "        dto.levelCode = 30;",
+                "        dto.levelName = \"low\";",
+                "        dto.day = LocalDate.of(2031, 1, 1);",
+                "        dto.customDay = \"2025-06-15\";",
+                "        dto.password = \"Password123\";",
+                "        dto.name = \"张三丰大侠\";",
+                "        dto.website = \"https://LOCALHOST/\";",
+                "        dto.amount = new BigDecimal(\"1234.5\");",
+                "        dto.file = new FileData(new byte[2048], \"image/png\");",
+                "        return dto;",
+                "    }",
+                "",
+                "    public static SampleDTO empty() {",
+                "        return new SampleDTO();",
+                "    }",
+                "",
+                "    public static class Inner {",
+                "        @PostalCode(message = \"邮政编码格式不正确\")",
+                "        String post;",
+                "",
+                "        @IdCard(strict = true, message = \"身份证号码无效\")",
+                "        String idCard;",
+                "",
+                "        @Address(minLength = 2, maxLength = 10, message = \"地址长度不正确\")",
+                "        String address;",
+                "",
+                "        public static Inner valid() {",
+                "            Inner inner = new Inner();",
+                "            inner.post = \"100000\";",
+                "            inner.idCard = \"11010519491231002X\";",
+                "            inner.address = \"北京市朝阳区\";",
+                "            return inner;",
+                "        }",
+                "",
+                "        public static Inner invalid() {",
+                "            Inner inner = new Inner();",
+                "            inner.post = \"1000\";",
+                "            inner.idCard = \"110101199013072118\";",
+                "            inner.address = \"京\";",
+                "            return inner;",
+                "        }",
+                "",
+                "        public static Inner empty() {",
+                "            return new Inner();",
+                "        }",
+                "    }",
+                "",
+                "    public static class Hidden {",
+                "        @Name(minLength = 2, maxLength = 4, message = \"昵称长度不正确\")",
+                "        private String nickname;",
+                "",
+                "        public static Hidden invalid() {",
+                "            Hidden hidden = new Hidden();",
+                "            hidden.nickname = \"A\";",
+                "            return hidden;",
+                "        }",
+                "    }",
+                "}",
+                "");
+    }
+
+    private static String quote(Path path) {
+        return "\"" + path.toAbsolutePath().toString().replace("\\", "\\\\") + "\"";
+    }
+
+    private static void report(String name, boolean passed, String detail) {
+        if (!passed) {
+            failures++;
+        }
+        System.out.println("  " + (passed ? "✓ " : "✗ ") + name + (detail.isEmpty() ? "" : "：" + detail));
+    }
+}
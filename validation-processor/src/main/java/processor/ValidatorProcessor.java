@@ -0,0 +1,519 @@
+package processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 校验注解处理器
+ * 在编译期读取 annotations 包中的校验注解，为每个带注解的类生成 XxxValidator 校验类，
+ * 生成的代码直接读取字段并以常量调用 utils.FieldValidator，运行时不需要反射扫描。
+ * 例如 com.example.UserDTO 生成 com.example.UserDTOValidator，
+ * 嵌套类 com.example.Outer.Inner 生成 com.example.Outer_InnerValidator
+ *
+ * <p>字段读取方式：非私有字段直接读取；私有字段通过同类中的 getter（getXxx/isXxx）读取。
+ * 私有字段没有 getter、类或枚举不可访问时不生成该类的校验类，运行时由 ValidatorEngine 回退为反射校验</p>
+ *
+ * @Author：zhangbaosheng
+ * @Package：processor
+ * @Project：validation-lib
+ * @name：ValidatorProcessor
+ * @Date：2026/10/18 14:20
+ * @Filename：ValidatorProcessor
+ */
+@SupportedAnnotationTypes("annotations.*")
+public class ValidatorProcessor extends AbstractProcessor {
+
+    /**
+     * 校验注解所在包
+     */
+    private static final String ANNOTATION_PACKAGE = "annotations.";
+
+    /**
+     * 生成类的名称后缀，需与 ValidatorEngine 中的查找规则保持一致
+     */
+    private static final String GENERATED_SUFFIX = "Validator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // 收集带校验注解字段的所属类，保持遇到的顺序
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            try {
+                generate(type);
+            } catch (SkipException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "未生成校验类，运行时将使用反射校验：" + e.getMessage(), type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "写入校验类失败：" + e.getMessage(), type);
+            }
+        }
+        // 不独占这些注解，其他处理器仍可处理
+        return false;
+    }
+
+    /**
+     * 为单个类生成校验类
+     *
+     * @param type 带校验注解字段的类
+     * @throws SkipException 类或字段无法在生成代码中访问
+     * @throws IOException   写入源文件失败
+     */
+    private void generate(TypeElement type) throws IOException {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new SkipException("局部类或匿名类不支持生成校验类");
+        }
+        checkAccessible(type);
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = flatName(type) + GENERATED_SUFFIX;
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        StringBuilder constants = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        // 字段上所有运行时可见的注解，其中任一注解注册了自定义校验器时运行时不使用生成类
+        Set<String> annotationTypes = new LinkedHashSet<>();
+        int index = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            List<AnnotationMirror> checks = new ArrayList<>();
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                if (annotationName(mirror).startsWith(ANNOTATION_PACKAGE)) {
+                    checks.add(mirror);
+                }
+                if (isRuntimeVisible(mirror)) {
+                    annotationTypes.add(processingEnv.getElementUtils()
+                            .getBinaryName((TypeElement) mirror.getAnnotationType().asElement()).toString());
+                }
+            }
+            if (checks.isEmpty()) {
+                continue;
+            }
+            String local = "value" + index;
+            TypeKind kind = field.asType().getKind();
+            boolean primitive = kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.DOUBLE;
+            // int、long、double 字段保存为基本类型局部变量，支持基本类型的校验直接使用，其余校验按装箱后的值处理
+            body.append("\n        ").append(primitive ? kind.name().toLowerCase(Locale.ROOT) : "Object").append(' ')
+                    .append(local).append(" = ").append(read(type, field)).append(";\n");
+            for (AnnotationMirror mirror : checks) {
+                String condition = condition(mirror, local, primitive ? kind : null, index, constants);
+                body.append("        if (!").append(condition).append(") {\n")
+                        .append("            errors.add(").append(literal(stringValue(mirror, "message"))).append(");\n")
+                        .append("        }\n");
+            }
+            index++;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * ").append(type.getSimpleName()).append(" 的校验类\n")
+                .append(" * 由 validation-processor 根据字段上的校验注解在编译期生成，请勿手工修改\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append(" implements engine.GeneratedValidator {\n")
+                .append(constants)
+                .append(constants.length() > 0 ? "\n" : "")
+                .append("    @Override\n")
+                .append("    public void validate(Object target, java.util.List<String> errors) {\n")
+                .append("        ").append(typeName).append(" dto = (").append(typeName).append(") target;\n")
+                .append(body)
+                .append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    public String[] annotationTypes() {\n")
+                .append("        return new String[]{").append(String.join(", ", literals(annotationTypes))).append("};\n")
+                .append("    }\n")
+                .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * 生成单个注解的校验表达式
+     *
+     * @param mirror    注解
+     * @param local     保存字段值的局部变量名
+     * @param primitive 字段为 int、long、double 时为对应的类型，局部变量为该基本类型；否则为null，局部变量为 Object
+     * @param index     字段序号，用于生成常量名
+     * @param constants 输出参数：需要声明为静态常量的内容
+     * @return 校验通过时为true的表达式
+     */
+    private String condition(AnnotationMirror mirror, String local, TypeKind primitive, int index,
+                             StringBuilder constants) {
+        String name = annotationName(mirror).substring(ANNOTATION_PACKAGE.length());
+        String value = local;
+        if (primitive != null) {
+            if (name.equals("Quantity") && primitive != TypeKind.DOUBLE) {
+                return call("isValidQuantity", local,
+                        literal(intValue(mirror, "min")), literal(intValue(mirror, "max")));
+            }
+            if (name.equals("EnumValue") && primitive != TypeKind.DOUBLE
+                    && !enumConstant(mirror, "match").equals("NAME")) {
+                return enumCondition(mirror, value);
+            }
+            // 不支持基本类型的校验按装箱后的值处理，与运行时的反射校验一致
+            local = "((Object) " + value + ")";
+        }
+        String string = "(String) " + local;
+        String decimal = "(java.math.BigDecimal) " + local;
+        switch (name) {
+            case "Email":
+                String domainBlocklist = stringValue(mirror, "blocklist");
+                if (domainBlocklist.isEmpty()) {
+                    return call("isValidEmail", string);
+                }
+                // 黑名单文件在类初始化时映射，无法加载时与反射校验一样报错
+                String emailBlocklist = "EMAIL_BLOCKLIST_" + index;
+                constants.append("    private static final utils.EmailDomainBlocklist ").append(emailBlocklist)
+                        .append(" = utils.EmailDomainBlocklist.open(").append(literal(domainBlocklist)).append(");\n");
+                return "(" + call("isValidEmail", string) + " && !" + emailBlocklist + ".blocks(" + string + "))";
+            case "Phone":
+                List<String> carriers = enumArray(mirror, "carriers");
+                if (!booleanValue(mirror, "strict") && carriers.isEmpty()) {
+                    return call("isValidPhone", string);
+                }
+                // 运营商位掩码在类初始化时计算一次，号段索引在校验时读取，以便运行时替换
+                String phoneCarriers = "PHONE_CARRIERS_" + index;
+                constants.append("    private static final int ").append(phoneCarriers)
+                        .append(" = utils.PhoneCarrier.mask(");
+                for (int i = 0; i < carriers.size(); i++) {
+                    constants.append(i > 0 ? ", " : "").append("utils.PhoneCarrier.").append(carriers.get(i));
+                }
+                constants.append(");\n");
+                return call("isValidPhone", string, phoneCarriers);
+            case "IdCard":
+                return booleanValue(mirror, "strict")
+                        ? call("isValidIdCard", string, "true") : call("isValidIdCard", string);
+            case "PostalCode":
+                return call("isValidPostalCode", string);
+            case "Url":
+                String schemes = stringArray(mirror, "allowedSchemes");
+                String allowedHosts = stringArray(mirror, "allowedHosts");
+                String deniedHosts = stringArray(mirror, "deniedHosts");
+                if (schemes.isEmpty() && allowedHosts.isEmpty() && deniedHosts.isEmpty()) {
+                    return call("isValidUrl", string);
+                }
+                // 协议和主机名规则在类初始化时编译一次
+                String url = "URL_" + index;
+                constants.append("    private static final utils.UrlConstraint ").append(url)
+                        .append(" = utils.UrlConstraint.compile(new String[]{").append(schemes)
+                        .append("}, new String[]{").append(allowedHosts)
+                        .append("}, new String[]{").append(deniedHosts).append("});\n");
+                return url + ".isValid(" + string + ")";
+            case "Price":
+                // 边界在类初始化时转换为 BigDecimal 一次，校验时不再创建对象
+                String price = "PRICE_" + index;
+                constants.append("    private static final utils.PriceConstraint ").append(price)
+                        .append(" = utils.PriceConstraint.compile(").append(literal(doubleValue(mirror, "min")))
+                        .append(", ").append(literal(doubleValue(mirror, "max"))).append(");\n");
+                return price + ".isValid(" + (primitive != null ? value : decimal) + ")";
+            case "Quantity":
+                return call("isValidQuantity", "(Integer) " + local,
+                        literal(intValue(mirror, "min")), literal(intValue(mirror, "max")));
+            case "Name":
+            case "Address":
+                return call("isValid" + name, string,
+                        literal(intValue(mirror, "minLength")), literal(intValue(mirror, "maxLength")));
+            case "Decimal":
+                return call("isValidDecimal", decimal,
+                        literal(intValue(mirror, "integerPart")), literal(intValue(mirror, "fractionPart")));
+            case "DateTime":
+                // 格式和边界在类初始化时编译一次，校验时只解析字段值
+                String dateTime = "DATE_TIME_" + index;
+                constants.append("    private static final utils.DateTimeConstraint ").append(dateTime)
+                        .append(" = utils.DateTimeConstraint.compile(").append(literal(stringValue(mirror, "pattern")))
+                        .append(", ").append(literal(stringValue(mirror, "min")))
+                        .append(", ").append(literal(stringValue(mirror, "max")))
+                        .append(", ").append(literal(stringValue(mirror, "zone"))).append(");\n");
+                // 字段可以是 String 或 LocalDate/LocalDateTime/Instant，由约束按实际类型分派
+                return dateTime + ".isValidValue(" + local + ")";
+            case "Password":
+                // 字符类别查找表在类初始化时生成一次
+                String password = "PASSWORD_" + index;
+                constants.append("    private static final utils.PasswordPolicy ").append(password)
+                        .append(" = utils.PasswordPolicy.compile(")
+                        .append(literal(booleanValue(mirror, "requireUppercase"))).append(", ")
+                        .append(literal(booleanValue(mirror, "requireLowercase"))).append(", ")
+                        .append(literal(booleanValue(mirror, "requireDigit"))).append(", ")
+                        .append(literal(booleanValue(mirror, "requireSpecial"))).append(", ")
+                        .append(literal(intValue(mirror, "minLength"))).append(", ")
+                        .append(literal(intValue(mirror, "maxLength"))).append(", ")
+                        .append(literal(stringValue(mirror, "specialChars"))).append(");\n");
+                String blocklist = stringValue(mirror, "blocklist");
+                if (blocklist.isEmpty()) {
+                    return password + ".isValid(" + string + ")";
+                }
+                // 黑名单文件在类初始化时映射，无法加载时与反射校验一样报错
+                String blocklistConstant = "PASSWORD_BLOCKLIST_" + index;
+                constants.append("    private static final utils.PasswordBlocklist ").append(blocklistConstant)
+                        .append(" = utils.PasswordBlocklist.open(").append(literal(blocklist)).append(");\n");
+                return "(" + password + ".isValid(" + string + ") && !" + blocklistConstant + ".contains(" + string + "))";
+            case "EnumValue":
+                return enumCondition(mirror, local);
+            case "FileConstraint":
+                // 大小上限和允许的类型在类初始化时编译一次
+                String fileConstraint = "FILE_" + index;
+                constants.append("    private static final utils.FileContentConstraint ").append(fileConstraint)
+                        .append(" = utils.FileContentConstraint.compile(").append(literal(longValue(mirror, "maxSizeKB")))
+                        .append(", new String[]{").append(stringArray(mirror, "allowedTypes")).append("}, ")
+                        .append(literal(booleanValue(mirror, "detectContentType"))).append(");\n");
+                String file = "((engine.FileData) " + local + ")";
+                // 字段值不是FileData类型时直接视为校验失败
+                return "(" + local + " instanceof engine.FileData && "
+                        + fileConstraint + ".isValid(" + file + ".getSource(), " + file + ".getMimeType()))";
+            default:
+                throw new SkipException("不支持的校验注解 @" + name);
+        }
+    }
+
+    /**
+     * 按 match 属性生成枚举值的校验表达式，局部变量为 Object 或 long/int 均可，由 FieldValidator 的重载分派
+     */
+    private String enumCondition(AnnotationMirror mirror, String local) {
+        String enumClass = classLiteral(mirror, "enumClass");
+        switch (enumConstant(mirror, "match")) {
+            case "ORDINAL":
+                return call("isValidEnumOrdinal", local, enumClass);
+            case "CODE":
+                return call("isValidEnumCode", local, enumClass, literal(stringValue(mirror, "codeAccessor")));
+            default:
+                return call("isValidEnumValue", local, enumClass);
+        }
+    }
+
+    private static String call(String method, String... args) {
+        return "utils.FieldValidator." + method + "(" + String.join(", ", args) + ")";
+    }
+
+    /**
+     * 生成读取字段值的表达式
+     *
+     * @param type  字段所属类
+     * @param field 字段
+     * @return 读取表达式
+     */
+    private String read(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+        String owner = isStatic ? processingEnv.getTypeUtils().erasure(type.asType()).toString() : "dto";
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return owner + "." + name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean nameMatches = methodName.equals("get" + capitalized)
+                    || (methodName.equals("is" + capitalized) && field.asType().getKind() == TypeKind.BOOLEAN);
+            if (nameMatches
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && method.getModifiers().contains(Modifier.STATIC) == isStatic
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return owner + "." + methodName + "()";
+            }
+        }
+        throw new SkipException("私有字段 " + name + " 没有可用的 getter");
+    }
+
+    /**
+     * 确认类及其外部类在同包生成代码中可以访问
+     *
+     * @param element 类
+     */
+    private static void checkAccessible(Element element) {
+        for (Element e = element; e != null && e.getKind() != ElementKind.PACKAGE; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new SkipException(e.getSimpleName() + " 为私有类型");
+            }
+        }
+    }
+
+    /**
+     * 嵌套类名称以下划线连接外部类名称，例如 Outer.Inner 为 Outer_Inner
+     */
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        return name.toString();
+    }
+
+    /**
+     * @return 注解是否在运行时可见（RUNTIME 保留策略），只有这些注解可能被运行时注册的校验器使用
+     */
+    private static boolean isRuntimeVisible(AnnotationMirror mirror) {
+        Retention retention = mirror.getAnnotationType().asElement().getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    private static List<String> literals(Set<String> values) {
+        List<String> literals = new ArrayList<>(values.size());
+        for (String value : values) {
+            literals.add(literal(value));
+        }
+        return literals;
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    // ---------------------------------------------------------------- 注解属性（包含默认值）
+
+    private Object value(AnnotationMirror mirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new SkipException("注解 @" + mirror.getAnnotationType().asElement().getSimpleName()
+                + " 缺少属性 " + name);
+    }
+
+    private String enumConstant(AnnotationMirror mirror, String name) {
+        return ((VariableElement) value(mirror, name)).getSimpleName().toString();
+    }
+
+    private String stringValue(AnnotationMirror mirror, String name) {
+        return (String) value(mirror, name);
+    }
+
+    private int intValue(AnnotationMirror mirror, String name) {
+        return (Integer) value(mirror, name);
+    }
+
+    private long longValue(AnnotationMirror mirror, String name) {
+        return (Long) value(mirror, name);
+    }
+
+    private double doubleValue(AnnotationMirror mirror, String name) {
+        return (Double) value(mirror, name);
+    }
+
+    private boolean booleanValue(AnnotationMirror mirror, String name) {
+        return (Boolean) value(mirror, name);
+    }
+
+    private String classLiteral(AnnotationMirror mirror, String name) {
+        TypeMirror type = (TypeMirror) value(mirror, name);
+        checkAccessible(processingEnv.getTypeUtils().asElement(type));
+        return processingEnv.getTypeUtils().erasure(type) + ".class";
+    }
+
+    private String stringArray(AnnotationMirror mirror, String name) {
+        List<String> items = new ArrayList<>();
+        for (Object item : (List<?>) value(mirror, name)) {
+            items.add(literal((String) ((AnnotationValue) item).getValue()));
+        }
+        return String.join(", ", items);
+    }
+
+    private List<String> enumArray(AnnotationMirror mirror, String name) {
+        List<String> items = new ArrayList<>();
+        for (Object item : (List<?>) value(mirror, name)) {
+            items.add(((VariableElement) ((AnnotationValue) item).getValue()).getSimpleName().toString());
+        }
+        return items;
+    }
+
+    // ---------------------------------------------------------------- Java 字面量
+
+    private static String literal(int value) {
+        return Integer.toString(value);
+    }
+
+    private static String literal(long value) {
+        return value + "L";
+    }
+
+    private static String literal(boolean value) {
+        return Boolean.toString(value);
+    }
+
+    private static String literal(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * 生成字符串字面量，非ASCII字符使用 unicode 转义，生成的源文件与编译编码无关
+     */
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c >= 0x20 && c < 0x7f) {
+                sb.append(c);
+            } else if (c < 0x20) {
+                // 控制字符使用八进制转义，unicode 转义会在词法分析前被替换
+                sb.append(String.format("\\%03o", (int) c));
+            } else {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * 无法为当前类生成校验类
+     */
+    private static final class SkipException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SkipException(String message) {
+            super(message);
+        }
+    }
+}